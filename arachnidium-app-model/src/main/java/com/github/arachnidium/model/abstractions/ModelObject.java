@@ -17,7 +17,6 @@
 
 package com.github.arachnidium.model.abstractions;
 
-import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -35,6 +34,7 @@ import com.github.arachnidium.core.components.WebdriverComponent;
 import com.github.arachnidium.core.components.common.Awaiting;
 import com.github.arachnidium.core.components.common.DriverLogs;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ExceptionHandlerRegistry;
 import com.github.arachnidium.model.abstractions.exceptionhandlers.ModelObjectExceptionHandler;
 import com.github.arachnidium.model.abstractions.exceptionhandlers.UsedImplicitExceptionHandlerReader;
 import com.github.arachnidium.model.interfaces.IDecomposable;
@@ -70,43 +70,26 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	protected final Awaiting awaiting; //performs waiting
 	protected final DriverLogs logs; //is for getting WebDriver logs
 	
-	//this is for interception and automatically handling exceptions
+	/**
+	 * Handlers which are checked in by {@link #checkInExceptionHandler(ModelObjectExceptionHandler)}
+	 * and {@link #checkInExceptionHandlers(List)}.
+	 * 
+	 * @deprecated Use check-in/check-out methods instead. 
+	 * Handlers which are declared by invoked methods are not kept here
+	 */
+	@Deprecated
 	protected final HashSet<ModelObjectExceptionHandler> checkedInExceptionHandlers = new HashSet<ModelObjectExceptionHandler>();
 
-	// this will be invoked when some exception is caught out
-	IModelObjectExceptionHandler exceptionHandler = (IModelObjectExceptionHandler) Proxy
-			.newProxyInstance(
-					IModelObjectExceptionHandler.class.getClassLoader(),
-					new Class[] { IModelObjectExceptionHandler.class },
-					(proxy, method, args) -> {
-						// it needs to know exception
-						Throwable t = (Throwable) args[4];
-						for (ModelObjectExceptionHandler handler : checkedInExceptionHandlers) {
-							// it looks for the suitable handler
-							if (!handler.isThrowableInList(t.getClass())) {
-								continue;
-							}
-							
-							if (handler.getExpectedMessagePattern() != null){
-								if (!handler.doesExceptionMessageMatch(t)){
-									continue;
-								}
-							}
-							
-							try {
-								return method.invoke(handler, args);
-							} catch (Exception e) {
-								continue; // it wasn't the suitable
-												// handler
-							}
-						}
-						// if there are no suitable handlers
-						throw t;
-					});
+	//this is for interception and automatically handling exceptions.
+	//Checked in handlers are invoked when some exception is caught out
+	final ExceptionHandlerRegistry exceptionHandlers = new ExceptionHandlerRegistry(
+			checkedInExceptionHandlers);
 
 	@SuppressWarnings("rawtypes")
 	final List<ModelObject> children = Collections
 			.synchronizedList(new ArrayList<ModelObject>());
+	
+	private volatile boolean isDestroyed;
 
 	/**
 	 * This is the general constructor.
@@ -118,7 +101,8 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	protected ModelObject(S handle) {
 		this.handle = handle;
 		driverEncapsulation = handle.driverEncapsulation;
-		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver());
+		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver(),
+				driverEncapsulation);
 		logs = driverEncapsulation.getComponent(DriverLogs.class);
 		checkInExceptionHandlers(UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(this.getClass()));
 	}
@@ -147,7 +131,7 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	 */
 	public void checkInExceptionHandler(
 			ModelObjectExceptionHandler exceptionHandler) {
-		checkedInExceptionHandlers.add(exceptionHandler);
+		exceptionHandlers.checkIn(Collections.singletonList(exceptionHandler));
 	}
 	
 	/**
@@ -165,17 +149,17 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	 */
 	public void checkInExceptionHandlers(
 			List<ModelObjectExceptionHandler> exceptionHandlers) {
-		checkedInExceptionHandlers.addAll(exceptionHandlers);
+		this.exceptionHandlers.checkIn(exceptionHandlers);
 	}
 
 	public void checkOutExceptionHandler(
 			ModelObjectExceptionHandler exceptionHandler) {
-		checkedInExceptionHandlers.remove(exceptionHandler);
+		exceptionHandlers.checkOut(Collections.singletonList(exceptionHandler));
 	}
 	
 	public void checkOutExceptionHandlers(
 			List<ModelObjectExceptionHandler> exceptionHandlers) {
-		checkedInExceptionHandlers.removeAll(exceptionHandlers);
+		this.exceptionHandlers.checkOut(exceptionHandlers);
 	}	
 
 	/**
@@ -184,10 +168,18 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	 */
 	@Override
 	public void destroy() {
+		isDestroyed = true;
 		for (ModelObject<?> child : children)
 			child.destroy();
 		children.clear();
 	}
+	
+	/**
+	 * @return <code>true</code> if {@link #destroy()} has been invoked
+	 */
+	public boolean isDestroyed() {
+		return isDestroyed;
+	}
 
 	/**
 	 * @see com.github.arachnidium.model.interfaces.IDecomposable#getPart(java.lang.Class)
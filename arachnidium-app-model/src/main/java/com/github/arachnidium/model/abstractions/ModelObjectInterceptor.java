@@ -1,10 +1,12 @@
 package com.github.arachnidium.model.abstractions;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+import com.github.arachnidium.model.abstractions.exceptionhandlers.ModelObjectExceptionHandler;
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
 
 /**
@@ -20,6 +22,31 @@ import com.github.arachnidium.util.proxy.DefaultInterceptor;
  */
 public abstract class ModelObjectInterceptor	extends DefaultInterceptor {
 
+	/**
+	 * Checks in handlers which are declared by the invoked method.
+	 * These check-ins are counted, so re-entrant invocations don't
+	 * check out handlers of outer invocations
+	 * 
+	 * @param modelObj is the {@link ModelObject} whose method is invoked
+	 * @param handlers are declared handlers
+	 */
+	protected static void checkInDeclaredExceptionHandlers(
+			ModelObject<?> modelObj, List<ModelObjectExceptionHandler> handlers) {
+		modelObj.exceptionHandlers.checkInDeclared(handlers);
+	}
+
+	/**
+	 * Checks out handlers which are declared by the invoked method
+	 * when the invocation is finished
+	 * 
+	 * @param modelObj is the {@link ModelObject} whose method is invoked
+	 * @param handlers are declared handlers
+	 */
+	protected static void checkOutDeclaredExceptionHandlers(
+			ModelObject<?> modelObj, List<ModelObjectExceptionHandler> handlers) {
+		modelObj.exceptionHandlers.checkOutDeclared(handlers);
+	}
+
 	/**
 	 * @see com.github.arachnidium.util.proxy.DefaultInterceptor#intercept(java.lang.Object,
 	 *      java.lang.reflect.Method, java.lang.Object[],
@@ -35,7 +62,7 @@ public abstract class ModelObjectInterceptor	extends DefaultInterceptor {
 		try {
 			return super.intercept(modelObj, method, args, proxy);
 		} catch (Exception e) {
-			return ((ModelObject<?>) modelObj).exceptionHandler
+			return ((ModelObject<?>) modelObj).exceptionHandlers
 					.handleException(modelObj, method, proxy, args, e);
 		}
 	}
@@ -0,0 +1,159 @@
+package com.github.arachnidium.model.abstractions.exceptionhandlers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.cglib.proxy.MethodProxy;
+
+import com.github.arachnidium.model.abstractions.ModelObject;
+
+/**
+ * Keeps {@link ModelObjectExceptionHandler} instances which are
+ * checked in by a {@link ModelObject}. Handlers which are suitable for
+ * the given {@link Throwable} class are found once and then they are
+ * taken from the index until handlers are checked in/out or changed.<br/>
+ * <br/>
+ * Handlers which are checked in by {@link #checkIn(Collection)} are kept 
+ * as a set. The handler is not used anymore after the first check-out.<br/>
+ * <br/>
+ * Handlers which are declared by {@link UsedImplicitExceptionHandlers} of
+ * the invoked method are checked in by {@link #checkInDeclared(Collection)}. 
+ * These check-ins are counted. Such handler is not used anymore when it is
+ * checked out as many times as it has been checked in. So a re-entrant 
+ * invocation doesn't check out handlers of the outer invocation which are
+ * the same cached instances.
+ */
+public final class ExceptionHandlerRegistry {
+	private static final ModelObjectExceptionHandler[] NO_HANDLERS = new ModelObjectExceptionHandler[] {};
+
+	private final Set<ModelObjectExceptionHandler> checkedIn;
+	// declared handler -> count of check-ins
+	private final Map<ModelObjectExceptionHandler, Integer> declared = new LinkedHashMap<ModelObjectExceptionHandler, Integer>();
+	private final Map<Class<?>, ModelObjectExceptionHandler[]> index = new HashMap<Class<?>, ModelObjectExceptionHandler[]>();
+	private long indexedModifications = -1;
+	private int indexedCheckedIn;
+
+	public ExceptionHandlerRegistry() {
+		this(new LinkedHashSet<ModelObjectExceptionHandler>());
+	}
+
+	/**
+	 * @param checkedIn is the set where handlers checked in by
+	 * {@link #checkIn(Collection)} are kept
+	 */
+	public ExceptionHandlerRegistry(Set<ModelObjectExceptionHandler> checkedIn) {
+		this.checkedIn = checkedIn;
+	}
+
+	/**
+	 * @param exceptionHandlers handlers which should be used
+	 */
+	public synchronized void checkIn(
+			Collection<? extends ModelObjectExceptionHandler> exceptionHandlers) {
+		if (checkedIn.addAll(exceptionHandlers))
+			index.clear();
+	}
+
+	/**
+	 * @param exceptionHandlers handlers which should not be used anymore
+	 */
+	public synchronized void checkOut(
+			Collection<? extends ModelObjectExceptionHandler> exceptionHandlers) {
+		if (checkedIn.removeAll(exceptionHandlers))
+			index.clear();
+	}
+
+	/**
+	 * @param exceptionHandlers handlers which are declared by the 
+	 * invoked method
+	 */
+	public synchronized void checkInDeclared(
+			Collection<? extends ModelObjectExceptionHandler> exceptionHandlers) {
+		for (ModelObjectExceptionHandler handler : exceptionHandlers) {
+			if (declared.merge(handler, 1, Integer::sum) == 1)
+				index.clear();
+		}
+	}
+
+	/**
+	 * @param exceptionHandlers handlers which are declared by the 
+	 * invoked method. It is invoked when the invocation is finished
+	 */
+	public synchronized void checkOutDeclared(
+			Collection<? extends ModelObjectExceptionHandler> exceptionHandlers) {
+		for (ModelObjectExceptionHandler handler : exceptionHandlers) {
+			Integer checkIns = declared.get(handler);
+			if (checkIns == null)
+				continue;
+			if (checkIns > 1) {
+				declared.put(handler, checkIns - 1);
+				continue;
+			}
+			declared.remove(handler);
+			index.clear();
+		}
+	}
+
+	private synchronized ModelObjectExceptionHandler[] getSuitableHandlers(
+			Class<? extends Throwable> throwableClass) {
+		long modifications = ModelObjectExceptionHandler.getModificationCount();
+		int checkedInState = checkedIn.hashCode(); // the given set may be changed outside
+		if (indexedModifications != modifications
+				|| indexedCheckedIn != checkedInState) {
+			index.clear();
+			indexedModifications = modifications;
+			indexedCheckedIn = checkedInState;
+		}
+
+		ModelObjectExceptionHandler[] result = index.get(throwableClass);
+		if (result != null)
+			return result;
+
+		Set<ModelObjectExceptionHandler> all = new LinkedHashSet<ModelObjectExceptionHandler>(
+				checkedIn);
+		all.addAll(declared.keySet());
+		List<ModelObjectExceptionHandler> suitable = new ArrayList<ModelObjectExceptionHandler>();
+		for (ModelObjectExceptionHandler handler : all) {
+			if (handler.isThrowableInList(throwableClass))
+				suitable.add(handler);
+		}
+		result = suitable.isEmpty() ? NO_HANDLERS : suitable
+				.toArray(new ModelObjectExceptionHandler[suitable.size()]);
+		index.put(throwableClass, result);
+		return result;
+	}
+
+	/**
+	 * Looks for the suitable handler and invokes it. Next suitable
+	 * handler is tried if the previous one has failed
+	 *
+	 * @see com.github.arachnidium.model.interfaces.IModelObjectExceptionHandler#handleException(Object, Method, MethodProxy, Object[], Throwable)
+	 *
+	 * @throws Throwable the given {@link Throwable} if there are no
+	 * suitable handlers
+	 */
+	public Object handleException(Object object, Method originalMethod,
+			MethodProxy methodProxy, Object[] args, Throwable t)
+			throws Throwable {
+		for (ModelObjectExceptionHandler handler : getSuitableHandlers(t
+				.getClass())) {
+			if (!handler.isMessageSuitable(t))
+				continue;
+			try {
+				return handler.handleException(object, originalMethod,
+						methodProxy, args, t);
+			} catch (Throwable e) {
+				continue; // it wasn't the suitable handler
+			}
+		}
+		// if there are no suitable handlers
+		throw t;
+	}
+}
@@ -1,9 +1,10 @@
 package com.github.arachnidium.model.abstractions.exceptionhandlers;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -15,7 +16,14 @@ import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
 
 /**
  * It is the abstraction which describes the process of 
- * implicit and automated exception handling
+ * implicit and automated exception handling<br/>
+ * <br/>
+ * Handlers which are declared by {@link UsedImplicitExceptionHandlers} are
+ * instantiated once per annotated class/method and they are shared by 
+ * model objects and threads. So implementors should be stateless. The list
+ * of throwable classes and the message pattern should be set up by the 
+ * constructor (or {@link ExpectectedThrowables}) and they should not be 
+ * changed later.
  * 
  * @see IModelObjectExceptionHandler
  * @see MethodProxy
@@ -23,8 +31,13 @@ import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
  */
 public abstract class ModelObjectExceptionHandler implements
 IModelObjectExceptionHandler {
-	private List<Class<? extends Throwable>> throwableList = new ArrayList<Class<? extends Throwable>>();
-	private String expectedMessagePattern;
+	private final List<Class<? extends Throwable>> throwableList = new CopyOnWriteArrayList<Class<? extends Throwable>>();
+	private volatile String expectedMessagePattern;
+	private volatile Pattern compiledMessagePattern;
+	
+	// it is changed when any handler starts to handle another throwable class.
+	// So indexes of ExceptionHandlerRegistry become outdated
+	private static final AtomicLong modifications = new AtomicLong();
 
 	/**
 	 * @param tClass is the class of exception which should be caught and
@@ -42,7 +55,7 @@ IModelObjectExceptionHandler {
 		if (expectectedThrowables.length != 0){
 			ExpectectedThrowables et = expectectedThrowables[0];
 			throwableList.addAll(Arrays.asList(et.expectedThrowables()));
-			expectedMessagePattern = et.messagePattern();
+			setExpectedMessagePattern(et.messagePattern());
 		}
 	}
 	
@@ -64,6 +77,11 @@ IModelObjectExceptionHandler {
 	@Override
 	public void addThrowableClass(Class<? extends Throwable> tClass){
 		throwableList.add(tClass);
+		modifications.incrementAndGet();
+	}
+	
+	static long getModificationCount() {
+		return modifications.get();
 	}
 	
 	/**
@@ -74,6 +92,10 @@ IModelObjectExceptionHandler {
 	 */
 	public void setExpectedMessagePattern(String expectedMessagePattern){
 		this.expectedMessagePattern = expectedMessagePattern;
+		if (expectedMessagePattern != null)
+			compiledMessagePattern = Pattern.compile(expectedMessagePattern);
+		else
+			compiledMessagePattern = null;
 	}
 	
 	/**
@@ -91,10 +113,21 @@ IModelObjectExceptionHandler {
 	 * @return <code>true</code> when here is string pattern and {@link Throwable} message text matches to it.  
 	 */
 	public boolean doesExceptionMessageMatch(Throwable givenThrowable){
-		if (expectedMessagePattern == null)
+		Pattern p = compiledMessagePattern;
+		if (p == null)
 			return false;
-		Pattern p = Pattern.compile(expectedMessagePattern);
-		Matcher m = p.matcher(givenThrowable.getMessage());
+		String message = givenThrowable.getMessage();
+		Matcher m = p.matcher(message != null ? message : "");
 		return m.find();
 	}
+	
+	/**
+	 * @return <code>true</code> when there is no string pattern or 
+	 * the {@link Throwable} message text matches to it
+	 */
+	boolean isMessageSuitable(Throwable givenThrowable) {
+		if (compiledMessagePattern == null)
+			return true;
+		return doesExceptionMessageMatch(givenThrowable);
+	}
 }
@@ -3,21 +3,44 @@ package com.github.arachnidium.model.abstractions.exceptionhandlers;
 import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
 
 /**
  * This is used for the reading of {@link UsedImplicitExceptionHandlers}
- * declarations
+ * declarations.<br/>
+ * <br/>
+ * Handlers are instantiated once per annotated method/class. The same 
+ * instances are used by all model objects, threads and by re-entrant 
+ * invocations. So these handlers should be stateless (see 
+ * {@link ModelObjectExceptionHandler})
  */
 public final class UsedImplicitExceptionHandlerReader {
 	
+	// handlers are instantiated once per annotated method/class
+	private static final Map<AnnotatedElement, List<ModelObjectExceptionHandler>> declaredHandlers = 
+			new ConcurrentHashMap<AnnotatedElement, List<ModelObjectExceptionHandler>>();
+	
 	private UsedImplicitExceptionHandlerReader(){
 		super();
 	}
 	
+	/**
+	 * @param annotated is a class or a method which may be marked by 
+	 * {@link UsedImplicitExceptionHandlers}
+	 * @return the unmodifiable list of declared handlers. Instances are created once
+	 * per method/class and then they are reused
+	 */
 	public static List<ModelObjectExceptionHandler> getDeclaredExceptionHandlers(AnnotatedElement annotated){
+		return declaredHandlers.computeIfAbsent(annotated, 
+				UsedImplicitExceptionHandlerReader::readDeclaredExceptionHandlers);
+	}
+	
+	private static List<ModelObjectExceptionHandler> readDeclaredExceptionHandlers(AnnotatedElement annotated){
 		
 		UsedImplicitExceptionHandlers[] annotations = null;		
 		if (!Class.class.isAssignableFrom(annotated.getClass())){
@@ -28,20 +51,20 @@ public final class UsedImplicitExceptionHandlerReader {
 					UsedImplicitExceptionHandlers.class, (Class<?>) annotated, true);
 		}		
 		
-		List<ModelObjectExceptionHandler> result = new ArrayList<>();
-		if (annotations.length != 0) {
-			UsedImplicitExceptionHandlers ueh = annotations[0];
-			List<Class<? extends ModelObjectExceptionHandler>> throwableHandlers = Arrays
-					.asList(ueh.areUsed());
-			throwableHandlers.forEach((handler) -> {
-				try {
-					result.add(handler.newInstance());
-				} catch (Exception e) {
-					throw new RuntimeException(e);
-				}
-			});			
-		 }
+		if (annotations.length == 0)
+			return Collections.emptyList();
 		
-		return result;
+		List<ModelObjectExceptionHandler> result = new ArrayList<>();
+		UsedImplicitExceptionHandlers ueh = annotations[0];
+		List<Class<? extends ModelObjectExceptionHandler>> throwableHandlers = Arrays
+				.asList(ueh.areUsed());
+		throwableHandlers.forEach((handler) -> {
+			try {
+				result.add(handler.newInstance());
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});			
+		return Collections.unmodifiableList(result);
 	}
 }
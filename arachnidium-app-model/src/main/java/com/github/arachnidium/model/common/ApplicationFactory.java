@@ -203,7 +203,8 @@ public abstract class ApplicationFactory {
 	Handle getTheFirstHandle(
 			Class<? extends Manager<?,?>> handleManagerClass) {
 		try {
-			WebDriverEncapsulation wdeInstance = new WebDriverEncapsulation(supportedDriver, paramValues);
+			WebDriverEncapsulation wdeInstance = new WebDriverEncapsulation(supportedDriver, 
+					config != null ? config : Configuration.byDefault, paramValues);
 			
 			Constructor<?> c = handleManagerClass
 					.getConstructor(new Class<?>[] { WebDriverEncapsulation.class });
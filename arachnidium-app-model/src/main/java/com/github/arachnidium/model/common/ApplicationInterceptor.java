@@ -27,6 +27,9 @@ import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
  *by {@link IDecomposable} and {@link IDecomposableByHandles}. 
  */
 class ApplicationInterceptor extends ModelObjectInterceptor{
+	
+	private final PartCache partCache = new PartCache();
+	
 	/**
 	 *Invokes methods and performs
 	 *the substitution of methods specified 
@@ -44,6 +47,8 @@ class ApplicationInterceptor extends ModelObjectInterceptor{
 			MethodProxy methodProxy) throws Throwable {
 		try {
 			if (!method.getName().equals(DecompositionUtil.GET_PART)) {
+				if (DecompositionUtil.isDestroy(method))
+					partCache.clear();
 				return super.intercept(application, method, args, methodProxy);
 			}
 
@@ -68,7 +73,12 @@ class ApplicationInterceptor extends ModelObjectInterceptor{
 						application.getClass(), method);
 
 			}
-			return super.intercept(application, method, args, methodProxy);
+			Method getPart = method;
+			Object[] getPartArgs = args;
+			MethodProxy getPartProxy = methodProxy;
+			return partCache.getPart(app, getPartArgs,
+					() -> super.intercept(application, getPart, getPartArgs,
+							getPartProxy));
 		} catch (Exception e) {
 			throw e;
 		}
@@ -1,8 +1,7 @@
 package com.github.arachnidium.model.common;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
 
 import net.sf.cglib.proxy.MethodInterceptor;
@@ -14,18 +13,32 @@ import org.openqa.selenium.NoSuchContextException;
 import org.openqa.selenium.NoSuchWindowException;
 
 import com.github.arachnidium.core.ByNumbered;
+import com.github.arachnidium.core.FocusTracker;
 import com.github.arachnidium.core.HowToGetByFrames;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
-import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
-import com.github.arachnidium.model.support.annotations.rootelements.IRootElementReader;
+import com.github.arachnidium.model.interfaces.IRefreshable;
+import com.github.arachnidium.util.proxy.DispatchTable;
 import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
 
+/**
+ * Intercepts methods of lists of decomposable objects. The list
+ * is built once and it is reused until navigation or frame switching is 
+ * performed or the tracked state is invalidated (see 
+ * {@link com.github.arachnidium.core.FocusTracker}), or until it is 
+ * refreshed explicitly (see {@link IRefreshable}). Actions (clicks, key 
+ * sending etc.) don't rebuild the list. Root elements of created parts 
+ * are found again when they are stale.
+ * Parts are created only when they are required.<br/>
+ * <br/>
+ * Elements are counted again when size() or isEmpty() is invoked. The 
+ * list is built again if the count has been changed. So waiting for 
+ * the list which is polled by these methods works without navigation 
+ * (e.g. elements are added by a script).
+ */
 class DecomposableListInterceptor implements MethodInterceptor {
-	private final Field lisField;
 	private final ModelObject<?> invoker;
-	private final ESupportedDrivers supportedDriver;
 	private final Class<? extends IDecomposable> required;
 	private final boolean isInvokerApp;
 
@@ -33,63 +46,68 @@ class DecomposableListInterceptor implements MethodInterceptor {
 	private final Long timeOutLong;
 	private final HowToGetByFrames howToGetByFrames;
 	private final By by;
-
-	DecomposableListInterceptor(Field field, ModelObject<?> invoker,
-			ESupportedDrivers supportedDriver) {
-		lisField = field;
-		this.invoker = invoker;
-		this.supportedDriver = supportedDriver;
-		required = DecompositionUtil.getClassFromTheList(lisField);
-		isInvokerApp = Application.class.isAssignableFrom(invoker.getClass());
-		howToGetHandlestrategy = returnHowToGetHandleStrategy();
-		timeOutLong = getTimeOut();
-		howToGetByFrames = getHowToGetByFramesStrategy();
-		by = getBy();
-	}
-
-	private IHowToGetHandle returnHowToGetHandleStrategy() {
-		if (isInvokerApp) {
-			IHowToGetHandle how = DecompositionUtil
-					.getRelevantHowToGetHandleStrategy(supportedDriver,
-							lisField);
-
-			if (how == null)
-				how = DecompositionUtil.getRelevantHowToGetHandleStrategy(
-						supportedDriver, required);
-			return how;
+	
+	private Snapshot snapshot;
+	private long builtAtNavigation;
+	private long builtAtFrameSwitching;
+	private long builtAtInvalidation;
+	
+	/**
+	 * The snapshot of the list. The n-th part 
+	 * is created when it is required at the first time.
+	 * Root elements of parts are found by the one shared search
+	 */
+	private class Snapshot extends AbstractList<IDecomposable> {
+		private final FunctionalPart<?> mediator;
+		private final IDecomposable target;
+		private final IDecomposable[] parts;
+		private final ByNumbered.SharedResult sharedResult;
+		
+		private Snapshot(FunctionalPart<?> mediator, IDecomposable target,
+				int size) {
+			this.mediator = mediator;
+			this.target = target;
+			parts = new IDecomposable[size];
+			if (by != null)
+				sharedResult = new ByNumbered.SharedResult(by, invoker
+						.getWebDriverEncapsulation().getFocusTracker());
+			else
+				sharedResult = null;
 		}
-		return null;
-	}
 
-	private Long getTimeOut() {
-		if (isInvokerApp) {
-			Long timeOutLong = DecompositionUtil.getTimeOut(lisField);
-
-			if (timeOutLong == null)
-				timeOutLong = DecompositionUtil.getTimeOut(required);
-			return timeOutLong;
+		@Override
+		public synchronized IDecomposable get(int index) {
+			if (parts[index] == null) {
+				if (by == null)
+					parts[index] = target.getPart(required, howToGetByFrames);
+				else
+					parts[index] = target.getPart(required, howToGetByFrames,
+							new ByNumbered(by, index, sharedResult));
+			}
+			return parts[index];
 		}
-		return null;
-	}
 
-	private HowToGetByFrames getHowToGetByFramesStrategy() {
-		HowToGetByFrames howToGetByFrames = DecompositionUtil
-				.getHowToGetByFramesStrategy(lisField);
-		if (howToGetByFrames == null) {
-			howToGetByFrames = DecompositionUtil
-					.getHowToGetByFramesStrategy(required);
+		@Override
+		public int size() {
+			return parts.length;
 		}
-		return howToGetByFrames;
 	}
 
-	private By getBy() {
-		IRootElementReader reader = DecompositionUtil
-				.getRootElementReader(supportedDriver);
-		By by = reader.readClassAndGetBy(lisField, supportedDriver);
-		if (by == null) {
-			by = reader.readClassAndGetBy(required, supportedDriver);
-		}
-		return by;
+	/**
+	 * Values of strategies are read once per class of the invoker
+	 * (see {@link DecompositionPlan})
+	 */
+	DecomposableListInterceptor(ModelObject<?> invoker,
+			Class<? extends IDecomposable> required,
+			IHowToGetHandle howToGetHandlestrategy, Long timeOutLong,
+			HowToGetByFrames howToGetByFrames, By by) {
+		this.invoker = invoker;
+		this.required = required;
+		isInvokerApp = Application.class.isAssignableFrom(invoker.getClass());
+		this.howToGetHandlestrategy = howToGetHandlestrategy;
+		this.timeOutLong = timeOutLong;
+		this.howToGetByFrames = howToGetByFrames;
+		this.by = by;
 	}
 
 	private static Object[] clearArgs(Object[] args) {
@@ -120,40 +138,68 @@ class DecomposableListInterceptor implements MethodInterceptor {
 		}
 	}
 
-	private List<IDecomposable> buildList() {
-		ArrayList<IDecomposable> result = new ArrayList<>();
+	private int countElements(FunctionalPart<?> mediator) {
+		if (by == null)
+			return 1;
+		try {
+			return mediator.getHandle().findElements(by).size();
+		} catch (NoSuchWindowException | NoSuchContextException e) {
+			return 0;
+		}
+	}
+
+	private Snapshot buildList() {
 		FunctionalPart<?> mediator = null;
 		mediator = (FunctionalPart<?>) returnPart(FunctionalPart.class);	
 		
-		int totalElements = 1;
-		if (by != null) {
-			try{
-				totalElements = mediator.getHandle().findElements(by).size();
-			}
-			catch (NoSuchWindowException|NoSuchContextException e){
-				return result;
-			}
-		}
-
 		IDecomposable target = invoker;
 		if (isInvokerApp) 
 			target = mediator;
 		
-		if (by == null)
-			result.add(target.getPart(required, 
-					howToGetByFrames));
-		else 
-			for (int i = 0; i < totalElements; i++)			
-			result.add(target.getPart(required, 
-						howToGetByFrames, new ByNumbered(by, i)));
-
-		return result;
+		return new Snapshot(mediator, target, countElements(mediator));
+	}
+	
+	/**
+	 * @param recount is <code>true</code> if elements of the actual 
+	 * snapshot should be counted again
+	 */
+	private synchronized List<IDecomposable> getList(boolean recount) {
+		FocusTracker focusTracker = invoker.getWebDriverEncapsulation()
+				.getFocusTracker();
+		if (snapshot == null
+				|| builtAtNavigation != focusTracker.getNavigationCount()
+				|| builtAtFrameSwitching != focusTracker.getFrameSwitchingCount()
+				|| builtAtInvalidation != focusTracker.getInvalidationCount()) {
+			builtAtNavigation = focusTracker.getNavigationCount();
+			builtAtFrameSwitching = focusTracker.getFrameSwitchingCount();
+			builtAtInvalidation = focusTracker.getInvalidationCount();
+			snapshot = buildList();
+		}
+		else if (recount && by != null
+				&& countElements(snapshot.mediator) != snapshot.size())
+			snapshot = buildList();
+		return snapshot;
+	}
+	
+	private static boolean isSizeMethod(Method method) {
+		return method.getParameterCount() == 0
+				&& ("size".equals(method.getName()) || "isEmpty"
+						.equals(method.getName()));
+	}
+	
+	private synchronized void refresh() {
+		snapshot = null;
 	}
 
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
-		return method.invoke(buildList(), args);
+		if (IRefreshable.class.equals(method.getDeclaringClass())) {
+			refresh();
+			return null;
+		}
+		return DispatchTable.invoke(getList(isSizeMethod(method)), method,
+				args);
 	}
 
 }
@@ -0,0 +1,226 @@
+package com.github.arachnidium.model.common;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.cglib.proxy.Enhancer;
+
+import org.openqa.selenium.By;
+
+import com.github.arachnidium.core.HowToGetByFrames;
+import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+import com.github.arachnidium.model.abstractions.ModelObject;
+import com.github.arachnidium.model.interfaces.IDecomposable;
+import com.github.arachnidium.model.interfaces.IRefreshable;
+import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
+import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
+
+/**
+ * It is the result of the reflection analysis of a {@link ModelObject}
+ * subclass. Fields which are marked by {@link Static}, relevant getPart(..)
+ * methods and their arguments are found once per class and
+ * {@link ESupportedDrivers}. Each new instance replays the plan.
+ *
+ * @see DecompositionUtil#populateFieldsWhichAreDecomposable(ModelObject)
+ */
+final class DecompositionPlan {
+
+	private static final ClassValue<Map<ESupportedDrivers, DecompositionPlan>> plans =
+			new ClassValue<Map<ESupportedDrivers, DecompositionPlan>>() {
+		@Override
+		protected Map<ESupportedDrivers, DecompositionPlan> computeValue(
+				Class<?> type) {
+			return new ConcurrentHashMap<ESupportedDrivers, DecompositionPlan>();
+		}
+	};
+
+	private static abstract class FieldPlan {
+		final Field field;
+
+		FieldPlan(Field field) {
+			this.field = field;
+		}
+
+		abstract Object createValue(ModelObject<?> target,
+				ESupportedDrivers supportedDriver)
+				throws ReflectiveOperationException;
+	}
+
+	/**
+	 * A field which is a list of decomposable objects
+	 */
+	private static class ListFieldPlan extends FieldPlan {
+		private final Class<? extends IDecomposable> required;
+		private final IHowToGetHandle howToGetHandle;
+		private final Long timeOut;
+		private final HowToGetByFrames howToGetByFrames;
+		private final By by;
+
+		ListFieldPlan(Field field, boolean isApplication,
+				ESupportedDrivers supportedDriver) {
+			super(field);
+			required = DecompositionUtil.getClassFromTheList(field);
+			if (isApplication) {
+				IHowToGetHandle how = DecompositionUtil
+						.getRelevantHowToGetHandleStrategy(supportedDriver,
+								field);
+				if (how == null)
+					how = DecompositionUtil.getRelevantHowToGetHandleStrategy(
+							supportedDriver, required);
+				howToGetHandle = how;
+
+				Long timeOutLong = DecompositionUtil.getTimeOut(field);
+				if (timeOutLong == null)
+					timeOutLong = DecompositionUtil.getTimeOut(required);
+				timeOut = timeOutLong;
+			} else {
+				howToGetHandle = null;
+				timeOut = null;
+			}
+
+			HowToGetByFrames howTo = DecompositionUtil
+					.getHowToGetByFramesStrategy(field);
+			if (howTo == null)
+				howTo = DecompositionUtil.getHowToGetByFramesStrategy(required);
+			howToGetByFrames = howTo;
+
+			By rootBy = DecompositionUtil.getRootBy(supportedDriver, field);
+			if (rootBy == null)
+				rootBy = DecompositionUtil.getRootBy(supportedDriver, required);
+			by = rootBy;
+		}
+
+		@Override
+		Object createValue(ModelObject<?> target,
+				ESupportedDrivers supportedDriver) {
+			Enhancer enhancer = new Enhancer();
+			enhancer.setInterfaces(new Class<?>[] { IRefreshable.class });
+			return EnhancedProxyFactory.getProxy(enhancer, ArrayList.class,
+					new Class<?>[] {}, new Object[] {},
+					new DecomposableListInterceptor(target, required,
+							DecompositionUtil.copy(howToGetHandle), timeOut,
+							DecompositionUtil.copy(howToGetByFrames), by));
+		}
+	}
+
+	/**
+	 * A field which is a single decomposable object
+	 */
+	private static class PartFieldPlan extends FieldPlan {
+		private final Method getPart;
+		private final Object[] args;
+		private final boolean isLazy;
+
+		PartFieldPlan(Field field, Class<?> declaringClass,
+				ESupportedDrivers supportedDriver) {
+			super(field);
+			Object[] args = new Object[] { field.getType() };
+			Method m = ExecutableUtil.getRelevantMethod(declaringClass,
+					DecompositionUtil.GET_PART, args);
+			if (Application.class.isAssignableFrom(declaringClass)) {
+				args = DecompositionUtil.getRelevantArgs2(supportedDriver, m,
+						args, field);
+			} else {
+				args = DecompositionUtil.getRelevantArgs(supportedDriver, m,
+						args, field);
+			}
+			getPart = ExecutableUtil.getRelevantMethod(declaringClass,
+					DecompositionUtil.GET_PART, args);
+			this.args = args;
+			isLazy = field.getAnnotation(Static.class).lazy();
+		}
+
+		private Object createRealValue(ModelObject<?> target) {
+			Object[] actualArgs = new Object[args.length];
+			for (int i = 0; i < args.length; i++)
+				actualArgs[i] = DecompositionUtil.copy(args[i]);
+			try {
+				ModelObject<?> value = (ModelObject<?>) getPart.invoke(target,
+						actualArgs);
+				// ModelObject fields of a new instance are populated too
+				DecompositionUtil.populateFieldsWhichAreDecomposable(value);
+				return value;
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		@Override
+		Object createValue(ModelObject<?> target,
+				ESupportedDrivers supportedDriver) {
+			if (!isLazy)
+				return createRealValue(target);
+			return EnhancedProxyFactory.getProxyBypassConstructor(
+					field.getType(), new LazyPartInterceptor(
+							() -> createRealValue(target)));
+		}
+	}
+
+	private final List<FieldPlan> fieldPlans;
+
+	private DecompositionPlan(Class<?> modelClass,
+			ESupportedDrivers supportedDriver) {
+		List<FieldPlan> result = new ArrayList<FieldPlan>();
+		Class<?> clazz = modelClass;
+		while (clazz != Object.class) {
+			for (Field field : clazz.getDeclaredFields()) {
+				if (!field.isAnnotationPresent(Static.class))
+					continue;
+				field.setAccessible(true);
+
+				Class<?> fieldClass = field.getType();
+				// if here is possible list of decomposable object
+				if (List.class.isAssignableFrom(fieldClass)
+						&& DecompositionUtil.getClassFromTheList(field) != null) {
+					result.add(new ListFieldPlan(field, Application.class
+							.isAssignableFrom(modelClass), supportedDriver));
+					continue;
+				}
+				// if here is a field where should be only single object
+				if (ModelObject.class.isAssignableFrom(fieldClass))
+					result.add(new PartFieldPlan(field, clazz, supportedDriver));
+			}
+			clazz = clazz.getSuperclass();
+		}
+		fieldPlans = Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * @param modelClass is a {@link ModelObject} subclass
+	 * @param supportedDriver it is description of the
+	 * launched {@link org.openqa.selenium.WebDriver} implementor
+	 * @return the plan which is created once per class and supported driver
+	 */
+	static DecompositionPlan getPlan(Class<?> modelClass,
+			ESupportedDrivers supportedDriver) {
+		return plans.get(modelClass).computeIfAbsent(supportedDriver,
+				driver -> new DecompositionPlan(modelClass, driver));
+	}
+
+	/**
+	 * Populates fields of the given object which are marked by {@link Static}
+	 * and are not populated yet
+	 *
+	 * @param target is the object whose fields should be populated
+	 * @param supportedDriver it is description of the
+	 * launched {@link org.openqa.selenium.WebDriver} implementor
+	 */
+	void populate(ModelObject<?> target, ESupportedDrivers supportedDriver) {
+		for (FieldPlan fieldPlan : fieldPlans) {
+			try {
+				if (fieldPlan.field.get(target) != null)
+					continue;
+				fieldPlan.field.set(target,
+						fieldPlan.createValue(target, supportedDriver));
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+}
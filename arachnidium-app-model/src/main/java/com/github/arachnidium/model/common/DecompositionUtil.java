@@ -10,8 +10,10 @@ import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import net.sf.cglib.core.Signature;
 import net.sf.cglib.proxy.MethodProxy;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -21,6 +23,7 @@ import org.openqa.selenium.WebDriver;
 import com.github.arachnidium.core.HowToGetPage;
 import com.github.arachnidium.core.HowToGetMobileScreen;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+import com.github.arachnidium.core.interfaces.ICloneable;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
@@ -39,12 +42,52 @@ import com.github.arachnidium.model.support.annotations.rootelements.ElementRead
 import com.github.arachnidium.model.support.annotations.rootelements.IRootElementReader;
 import com.github.arachnidium.model.support.annotations.rootelements.RootAndroidElement;
 import com.github.arachnidium.model.support.annotations.rootelements.RootIOSElement;
+import com.github.arachnidium.util.proxy.DispatchTable;
 import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
 import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
 import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
 
 abstract class DecompositionUtil {
 	static final String GET_PART = "getPart";
+	private static final String DESTROY = "destroy";
+	
+	// values which are read from annotations of classes/fields/methods.
+	// Annotations are not changed so they are read once 
+	private static final Map<AnnotatedElement, Optional<HowToGetByFrames>> frameStrategies = 
+			new ConcurrentHashMap<AnnotatedElement, Optional<HowToGetByFrames>>();
+	private static final Map<AnnotatedElement, Optional<Long>> timeOuts = 
+			new ConcurrentHashMap<AnnotatedElement, Optional<Long>>();
+	private static final Map<ESupportedDrivers, Map<AnnotatedElement, Optional<IHowToGetHandle>>> handleStrategies = 
+			new ConcurrentHashMap<ESupportedDrivers, Map<AnnotatedElement, Optional<IHowToGetHandle>>>();
+	private static final Map<ESupportedDrivers, Map<AnnotatedElement, Optional<By>>> rootBys = 
+			new ConcurrentHashMap<ESupportedDrivers, Map<AnnotatedElement, Optional<By>>>();
+	
+	private static <T> Map<AnnotatedElement, Optional<T>> getValues(
+			Map<ESupportedDrivers, Map<AnnotatedElement, Optional<T>>> values,
+			ESupportedDrivers supportedDriver) {
+		return values.computeIfAbsent(supportedDriver,
+				driver -> new ConcurrentHashMap<AnnotatedElement, Optional<T>>());
+	}
+	
+	/**
+	 * Mutable strategies of the window/context/frame receiving
+	 * are copied. So the cached templates and different parts don't share them
+	 * 
+	 * @param arg is a value to be copied
+	 * @return a copy of the given value if it is mutable. The value itself otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T copy(T arg) {
+		if (arg instanceof ICloneable)
+			return ((ICloneable) arg).cloneThis();
+		if (arg instanceof HowToGetByFrames) {
+			HowToGetByFrames howTo = new HowToGetByFrames();
+			((HowToGetByFrames) arg).getFramePath().forEach(
+					(chainElement) -> howTo.addNextFrame(chainElement));
+			return (T) howTo;
+		}
+		return arg;
+	}
 
 	/**
 	 * Creation of any decomposable part of application
@@ -78,53 +121,10 @@ abstract class DecompositionUtil {
 	 */
 	static void populateFieldsWhichAreDecomposable(
 			ModelObject<?> targetDecomposableObject) {
-		Class<?> clazz = targetDecomposableObject.getClass();
 		ESupportedDrivers supportedDriver = targetDecomposableObject.
 				getWebDriverEncapsulation().getInstantiatedSupportedDriver();
-		while (clazz != Object.class) {
-			List<Field> fields = Arrays.asList(clazz.getDeclaredFields());
-			for (Field field: fields){
-				try {
-					field.setAccessible(true);
-					if (!field.isAnnotationPresent(Static.class)|| 
-							field.get(targetDecomposableObject) != null) {
-						continue;
-					}
-				
-					Class<?> fieldClass = field.getType();
-					//if here is possible list of decomposable object
-					if (List.class.isAssignableFrom(fieldClass) && getClassFromTheList(field) != null){
-						field.set(targetDecomposableObject, EnhancedProxyFactory.
-								getProxy(ArrayList.class, new Class<?>[] {}, 
-								new Object[]{}, new DecomposableListInterceptor(field, 
-										targetDecomposableObject, supportedDriver)));
-						continue;
-					}					
-					
-					if (ModelObject.class.isAssignableFrom(fieldClass)){ //if here is a field where 
-						//should be only single object
-						Object[] args = new Object[] {field.getType()};
-						Method m = ExecutableUtil.getRelevantMethod(clazz, GET_PART, args);
-						if (Application.class.isAssignableFrom(clazz)){
-							args = getRelevantArgs2(supportedDriver, m, args, field);
-						}
-						else{
-							args = getRelevantArgs(supportedDriver, m, args, field);
-						}
-						m = ExecutableUtil.getRelevantMethod(clazz, GET_PART, args);
-						ModelObject<?> value =  (ModelObject<?>) m.invoke(targetDecomposableObject, args);
-						field.set(targetDecomposableObject, value);
-						//ModelObject fields of a new mock-instance are mocked too 
-						populateFieldsWhichAreDecomposable((ModelObject<?>) value);
-						continue;
-					}
-					
-				} catch (Exception e) {
-					throw new RuntimeException(e);
-				}
-			};
-			clazz = clazz.getSuperclass();
-		}
+		DecompositionPlan.getPlan(targetDecomposableObject.getClass(), 
+				supportedDriver).populate(targetDecomposableObject, supportedDriver);
 	}
 
 	/**
@@ -141,6 +141,12 @@ abstract class DecompositionUtil {
 	 * given class isn't annotated by {@link Frame}
 	 */	
 	static HowToGetByFrames getHowToGetByFramesStrategy(AnnotatedElement annotatedElement){
+		return copy(frameStrategies.computeIfAbsent(annotatedElement,
+				element -> Optional.ofNullable(readHowToGetByFramesStrategy(element)))
+				.orElse(null));
+	}
+	
+	private static HowToGetByFrames readHowToGetByFramesStrategy(AnnotatedElement annotatedElement){
 		List<Object> framePath = new ArrayList<>();
 		
 		framePath.addAll(ClassDeclarationReader
@@ -243,12 +249,27 @@ abstract class DecompositionUtil {
 	 * @return {@link Long} value if annotation is present. <code>null</code> otherwise
 	 */
 	static Long getTimeOut(AnnotatedElement annotated) {
-		TimeOut[] timeOuts = getAnnotations(
-				TimeOut.class, annotated);
-		if (timeOuts.length == 0) {
-			return null;
-		}
-		return ClassDeclarationReader.getTimeOut(timeOuts[0]);
+		return timeOuts.computeIfAbsent(annotated, element -> {
+			TimeOut[] timeOuts = getAnnotations(
+					TimeOut.class, element);
+			if (timeOuts.length == 0) {
+				return Optional.empty();
+			}
+			return Optional.of(ClassDeclarationReader.getTimeOut(timeOuts[0]));
+		}).orElse(null);
+	}
+	
+	/**
+	 * @param supportedDriver it is description of the supported {@link WebDriver} implementor
+	 * @param annotatedElement is a {@link Field}, {@link Method} or {@link Class} which is 
+	 * supposed to be marked by {@link RootElement}/{@link RootAndroidElement}/
+	 * {@link RootIOSElement}
+	 * @return {@link By} of the root element or <code>null</code>
+	 */
+	static By getRootBy(ESupportedDrivers supportedDriver, AnnotatedElement annotatedElement) {
+		return getValues(rootBys, supportedDriver).computeIfAbsent(annotatedElement, 
+				element -> Optional.ofNullable(getRootElementReader(supportedDriver)
+						.readClassAndGetBy(element, supportedDriver))).orElse(null);
 	}
 
 	static IRootElementReader getRootElementReader(ESupportedDrivers supportedDriver){
@@ -280,8 +301,7 @@ abstract class DecompositionUtil {
 		By rootBy = getDefinedParameter(method,
 				By.class, args);
 		if (rootBy == null) {
-			IRootElementReader rootElementReader = getRootElementReader(supportedDriver);
-			rootBy = rootElementReader.readClassAndGetBy(annotatedElement,	supportedDriver);
+			rootBy = getRootBy(supportedDriver, annotatedElement);
 		}		
 		
 		Object[] newArgs = new Object[]{extractTargetFromGetPart(method, args)};
@@ -336,8 +356,7 @@ abstract class DecompositionUtil {
 		By rootBy = getDefinedParameter(method,
 				By.class, args);
 		if (rootBy == null) {
-			IRootElementReader rootElementReader = getRootElementReader(supportedDriver);
-			rootBy = rootElementReader.readClassAndGetBy(annotatedElement, supportedDriver);
+			rootBy = getRootBy(supportedDriver, annotatedElement);
 		}			
 
 		// attempt to substitute methods is described below
@@ -364,6 +383,14 @@ abstract class DecompositionUtil {
 	}	
 		
 
+	/**
+	 * @param m is the invoked method
+	 * @return <code>true</code> if it is {@link ModelObject#destroy()}
+	 */
+	static boolean isDestroy(Method m) {
+		return m.getName().equals(DESTROY) && m.getParameterCount() == 0;
+	}
+
 	/**
 	 * For {@link IDecomposable#getPart(*)} methods
 	 * 
@@ -439,6 +466,14 @@ abstract class DecompositionUtil {
 	 */
 	static IHowToGetHandle getRelevantHowToGetHandleStrategy(ESupportedDrivers supportedDriver, 
 			AnnotatedElement annotatedElement){
+		return copy(getValues(handleStrategies, supportedDriver).computeIfAbsent(
+				annotatedElement, element -> Optional.ofNullable(
+						readRelevantHowToGetHandleStrategy(supportedDriver, element)))
+				.orElse(null));
+	}
+	
+	private static IHowToGetHandle readRelevantHowToGetHandleStrategy(ESupportedDrivers supportedDriver, 
+			AnnotatedElement annotatedElement){
 		
 		HowToGetMobileScreen howToGetMobileScreen = null;
 		HowToGetPage howToGetPage = getHowToGetHandleStrategy(DefaultPageIndex.class,
@@ -465,10 +500,7 @@ abstract class DecompositionUtil {
 	 * @return an instance of {@link MethodProxy}
 	 */
 	static MethodProxy getMethodProxy(Class<?> clazz, Method m){
-		org.objectweb.asm.Type returned = org.objectweb.asm.Type.getReturnType(m);
-		org.objectweb.asm.Type[] argTypes = org.objectweb.asm.Type.getArgumentTypes(m);
-		Signature s = new Signature(m.getName(), returned, argTypes);
-		return MethodProxy.find(clazz, s);		
+		return DispatchTable.getMethodProxy(clazz, m);		
 	}	
 	
 	@SuppressWarnings("unchecked")
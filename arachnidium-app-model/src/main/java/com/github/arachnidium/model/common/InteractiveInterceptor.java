@@ -1,7 +1,8 @@
 package com.github.arachnidium.model.common;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import net.sf.cglib.proxy.MethodProxy;
@@ -32,6 +33,8 @@ import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
  */
 class InteractiveInterceptor extends ModelObjectInterceptor {
 	
+	private final PartCache partCache = new PartCache();
+	
 	private static void resetTimeOut(FunctionalPart<?> funcPart,
 			long timeOutValue, TimeUnit timeUnit) {
 		funcPart.getTimeOut().implicitlyWait(timeOutValue, timeUnit);
@@ -47,7 +50,7 @@ class InteractiveInterceptor extends ModelObjectInterceptor {
 		FunctionalPart<?> funcPart = (FunctionalPart<?>) object;
 		long timeOut = 0;
 		TimeUnit timeUnit = null;
-		ArrayList<ModelObjectExceptionHandler> handlers = new ArrayList<>();
+		List<ModelObjectExceptionHandler> handlers = Collections.emptyList();
 		
 		boolean timeOutIsChanged = false;		
 		if (method.isAnnotationPresent(InteractiveMethod.class)) {
@@ -70,9 +73,9 @@ class InteractiveInterceptor extends ModelObjectInterceptor {
 				timeOutIsChanged = true;
 			}
 			
-			handlers.addAll(UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(method));
+			handlers = UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(method);
 			if (handlers.size() > 0){
-				funcPart.checkInExceptionHandlers(handlers);
+				checkInDeclaredExceptionHandlers(funcPart, handlers);
 			}
 		}
 
@@ -86,9 +89,16 @@ class InteractiveInterceptor extends ModelObjectInterceptor {
 				args = newArgs;
 				method = ExecutableUtil.getRelevantMethod(
 						funcPart.getClass(), DecompositionUtil.GET_PART, args);
-				methodProxy = DecompositionUtil.getMethodProxy(
+				MethodProxy getPartProxy = DecompositionUtil.getMethodProxy(
 						funcPart.getClass(), method);
+				Method getPart = method;
+				Object[] getPartArgs = args;
+				return partCache.getPart(funcPart, getPartArgs,
+						() -> super.intercept(funcPart, getPart, getPartArgs,
+								getPartProxy));
 			}
+			if (DecompositionUtil.isDestroy(method))
+				partCache.clear();
 			return super.intercept(funcPart, method, args, methodProxy);
 		} catch (Exception e) {
 			throw e;
@@ -96,7 +106,7 @@ class InteractiveInterceptor extends ModelObjectInterceptor {
 			if (timeOutIsChanged)
 				resetTimeOut(funcPart, timeOut, timeUnit);			
 			if (handlers.size() > 0){
-				funcPart.checkOutExceptionHandlers(handlers);
+				checkOutDeclaredExceptionHandlers(funcPart, handlers);
 			}
 		}
 	}
@@ -0,0 +1,47 @@
+package com.github.arachnidium.model.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+
+import com.github.arachnidium.util.proxy.DispatchTable;
+
+/**
+ * Intercepts methods of placeholders of fields which are marked 
+ * by {@link Static} with <code>lazy = true</code>. The real part
+ * is created at the first invocation and then it is reused.
+ */
+class LazyPartInterceptor implements MethodInterceptor {
+	private static final String FINALIZE = "finalize";
+	
+	private final Supplier<Object> realPartSupplier;
+	private Object realPart;
+
+	LazyPartInterceptor(Supplier<Object> realPartSupplier) {
+		this.realPartSupplier = realPartSupplier;
+	}
+
+	private synchronized Object getRealPart() {
+		if (realPart == null)
+			realPart = realPartSupplier.get();
+		return realPart;
+	}
+
+	@Override
+	public Object intercept(Object obj, Method method, Object[] args,
+			MethodProxy proxy) throws Throwable {
+		// the placeholder which has not been used should 
+		// not create the real part when it is collected
+		if (FINALIZE.equals(method.getName()) && method.getParameterCount() == 0)
+			return null;
+		try {
+			return DispatchTable.invoke(getRealPart(), method, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+}
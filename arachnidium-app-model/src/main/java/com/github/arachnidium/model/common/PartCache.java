@@ -0,0 +1,162 @@
+package com.github.arachnidium.model.common;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+
+import com.github.arachnidium.core.BrowserWindow;
+import com.github.arachnidium.core.Handle;
+import com.github.arachnidium.core.HowToGetByFrames;
+import com.github.arachnidium.core.MobileScreen;
+import com.github.arachnidium.core.fluenthandle.HandleMatchingPlan;
+import com.github.arachnidium.core.fluenthandle.HowToGetHandle;
+import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+import com.github.arachnidium.model.abstractions.ModelObject;
+import com.github.arachnidium.model.settings.PartCaching;
+
+/**
+ * Keeps parts which were received by getPart(..) of the
+ * one parent {@link ModelObject}. The part is reused when getPart(..)
+ * is invoked with the same parameters (part class, handle strategy, frame path,
+ * root by), it has not been destroyed, its window/mobile context is still
+ * present and its title/URL (context name/activity) still match the
+ * handle strategy.
+ *
+ * @see PartCaching
+ */
+final class PartCache {
+
+	/**
+	 * The creation of the new part
+	 */
+	interface PartCreation {
+		Object create() throws Throwable;
+	}
+
+	private static class CachedPart {
+		private final ModelObject<?> part;
+		private final HandleMatchingPlan plan; // null means there is nothing to check
+
+		private CachedPart(ModelObject<?> part, HandleMatchingPlan plan) {
+			this.part = part;
+			this.plan = plan;
+		}
+	}
+
+	private final Map<List<Object>, CachedPart> parts =
+			new ConcurrentHashMap<List<Object>, CachedPart>();
+
+	private static HandleMatchingPlan getPlan(Object[] args) {
+		for (Object arg : args) {
+			if (!(arg instanceof HowToGetHandle))
+				continue;
+			try {
+				return ((HowToGetHandle) arg).compile();
+			} catch (IllegalArgumentException e) {
+				return null; // there is no defined condition
+			}
+		}
+		return null;
+	}
+
+	static Object getKeyElement(Object arg) {
+		if (arg instanceof HowToGetByFrames)
+			return new ArrayList<Object>(((HowToGetByFrames) arg).getFramePath());
+		if (arg instanceof HowToGetHandle) {
+			HandleMatchingPlan plan = getPlan(new Object[] { arg });
+			if (plan == null)
+				return Arrays.asList(arg.getClass());
+			return Arrays.asList(arg.getClass(), plan.getIndex(),
+					plan.getStringIdentifier(), plan.getUniqueIdentifiers(),
+					plan.getHandle());
+		}
+		if (arg instanceof IHowToGetHandle) {
+			List<Object> result = new ArrayList<Object>();
+			result.add(arg.getClass());
+			result.add(arg.toString());
+			return result;
+		}
+		return arg;
+	}
+
+	static List<Object> getKey(Object[] args) {
+		List<Object> key = new ArrayList<Object>();
+		for (Object arg : args)
+			key.add(getKeyElement(arg));
+		return key;
+	}
+
+	/**
+	 * @return <code>true</code> if the title/URL of the window or the name/
+	 * activity of the context still match the plan
+	 */
+	private static boolean matches(ModelObject<?> part, HandleMatchingPlan plan) {
+		if (plan == null
+				|| (!plan.checksStringIdentifier() && !plan.checksUniqueIdentifiers()))
+			return true;
+
+		Handle handle = part.getHandle();
+		if (handle instanceof BrowserWindow) {
+			BrowserWindow window = (BrowserWindow) handle;
+			return plan.matchesStringIdentifier(window.getTitle())
+					&& plan.matchesUniqueIdentifiers(window.getCurrentUrl());
+		}
+		if (handle instanceof MobileScreen) {
+			if (!plan.matchesStringIdentifier(handle.getHandle()))
+				return false;
+			WebDriver driver = part.getWrappedDriver();
+			if (!plan.checksUniqueIdentifiers()
+					|| !(driver instanceof AndroidDriver))
+				return true;
+			return plan.matchesUniqueIdentifiers(((AndroidDriver<?>) driver)
+					.currentActivity());
+		}
+		return true;
+	}
+
+	private static boolean isReusable(CachedPart cached) {
+		return !cached.part.isDestroyed()
+				&& cached.part.getHandle().isAlive()
+				&& matches(cached.part, cached.plan);
+	}
+
+	/**
+	 * @param parent is the {@link ModelObject} whose getPart(..) is invoked
+	 * @param args are actual parameters of getPart(..)
+	 * @param creation creates the new part if there is no suitable cached part
+	 * @return the cached part or the new one
+	 * @throws Throwable
+	 */
+	Object getPart(ModelObject<?> parent, Object[] args, PartCreation creation)
+			throws Throwable {
+		if (!parent.getWebDriverEncapsulation().getWrappedConfiguration()
+				.getSection(PartCaching.class).getEnabled())
+			return creation.create();
+
+		List<Object> key = getKey(args);
+		CachedPart cached = parts.get(key);
+		if (cached != null && isReusable(cached))
+			return cached.part;
+
+		Object result = creation.create();
+		if (result instanceof ModelObject)
+			parts.put(key, new CachedPart((ModelObject<?>) result,
+					getPlan(args)));
+		else
+			parts.remove(key);
+		return result;
+	}
+
+	/**
+	 * Forgets all cached parts. It is invoked when the parent is destroyed
+	 */
+	void clear() {
+		parts.clear();
+	}
+}
@@ -9,12 +9,12 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriver.Timeouts;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsElement;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.FluentWait;
 
+import com.github.arachnidium.core.components.common.TimeOut.ImplicitlyWaitScope;
 import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
 import com.google.common.base.Function;
 
@@ -66,10 +66,11 @@ class RootElement implements WrapsElement {
 			}
 			
 			functionalPart.switchToMe();
-			Timeouts t = driver.manage().timeouts();
-			t.implicitlyWait(0, TimeUnit.SECONDS);
 			WebElement root = null;
-			try {
+			// the time out is changed by TimeOut. So it knows the value 
+			// which is set on the server
+			try (ImplicitlyWaitScope scope = functionalPart.getTimeOut()
+					.withImplicitlyWait(0, TimeUnit.SECONDS)) {
 				FluentWait<By> wait = new FluentWait<By>(by);
 				wait.withTimeout(timeValue, timeUnit);
 				wait.pollingEvery(POLLING_EVERY, TimeUnit.MILLISECONDS);
@@ -77,8 +78,6 @@ class RootElement implements WrapsElement {
 			} catch (TimeoutException e) {
 				throw new NoSuchElementException(
 						"Cann't locate the root element by " + by.toString(), e);
-			} finally {
-				t.implicitlyWait(timeValue, timeUnit);
 			}
 
 			return method.invoke(root, args);
@@ -7,10 +7,24 @@ import java.lang.annotation.Target;
 
 /**
  * All {@link FunctionalPart} fields which represents 
- * static content can be marked by this annotations 
+ * static content can be marked by this annotations.<br/>
+ * <br/>
+ * A list field keeps the snapshot of parts until the document is changed.
+ * Its size() and isEmpty() count elements again, so they can be polled by
+ * waitings. The list object implements 
+ * {@link com.github.arachnidium.model.interfaces.IRefreshable}. It can be
+ * cast to it and refreshed explicitly.
  */
 @Target(value = ElementType.FIELD)
 @Retention(value = RetentionPolicy.RUNTIME)
 public @interface Static {
-
+	/**
+	 * If it is <code>true</code> then the field contains a placeholder. 
+	 * The real part is created when any method of the placeholder 
+	 * is invoked at the first time. Final methods (e.g. 
+	 * {@link com.github.arachnidium.model.abstractions.ModelObject#getWebDriverEncapsulation()}) 
+	 * can't be intercepted so they should not be invoked on the placeholder.
+	 * It is not actual for lists.
+	 */
+	boolean lazy() default false;
 }
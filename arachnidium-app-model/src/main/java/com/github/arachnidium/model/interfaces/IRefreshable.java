@@ -0,0 +1,15 @@
+package com.github.arachnidium.model.interfaces;
+
+/**
+ * Objects which keep the snapshot of the UI state implement it. 
+ * E.g. lists of decomposable objects which are 
+ * marked by {@link com.github.arachnidium.model.common.Static} 
+ * annotation
+ */
+public interface IRefreshable {
+
+	/**
+	 * The snapshot is built again at the next usage
+	 */
+	public void refresh();
+}
@@ -0,0 +1,55 @@
+package com.github.arachnidium.model.settings;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores the flag which turns on the caching of parts. If it is
+ * <code>true</code> then getPart(..) returns the same instance when it is
+ * invoked with the same parameters again and:<br/>
+ * - the previously received instance has not been destroyed;<br/>
+ * - its window/mobile context is still present or it has not been looked 
+ * for yet (it is found by the first usage);<br/>
+ * - the title/URL of its window (the name/activity of its context) still 
+ * match the given handle strategy. They are checked by each reusing, so 
+ * the window/context of the part is looked for if it has not been found
+ * yet.<br/>
+ * Otherwise the new instance is created. All cached parts are forgotten 
+ * when the parent object is destroyed.
+ *
+ * Specification:
+ *
+ * <p><br/>
+ *...<br/>
+ *"partCaching":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"enabled":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "partCaching")
+public class PartCaching extends AbstractConfigurationAccessHelper {
+
+	protected PartCaching(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return {@link Boolean} value of the flag "enabled".
+	 * It is <code>false</code> by default
+	 */
+	@Setting(setting = "enabled")
+	public Boolean getEnabled() {
+		Boolean value = getSetting();
+		if (value == null)
+			return false;
+		return value;
+	}
+}
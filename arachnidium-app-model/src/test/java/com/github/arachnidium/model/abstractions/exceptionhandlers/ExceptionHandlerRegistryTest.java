@@ -0,0 +1,157 @@
+package com.github.arachnidium.model.abstractions.exceptionhandlers;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.sf.cglib.proxy.MethodProxy;
+
+import org.testng.annotations.Test;
+
+public class ExceptionHandlerRegistryTest {
+
+	private static class ReturningHandler extends ModelObjectExceptionHandler {
+		private final Object result;
+
+		private ReturningHandler(Class<? extends Throwable> tClass,
+				Object result) {
+			super(tClass);
+			this.result = result;
+		}
+
+		@Override
+		public Object handleException(Object object, Method originalMethod,
+				MethodProxy methodProxy, Object[] args, Throwable t)
+				throws Throwable {
+			return result;
+		}
+	}
+
+	private static class FailingHandler extends ModelObjectExceptionHandler {
+		private FailingHandler(Class<? extends Throwable> tClass) {
+			super(tClass);
+		}
+
+		@Override
+		public Object handleException(Object object, Method originalMethod,
+				MethodProxy methodProxy, Object[] args, Throwable t)
+				throws Throwable {
+			throw t;
+		}
+	}
+
+	private static Object handle(ExceptionHandlerRegistry registry,
+			Throwable t) throws Throwable {
+		return registry.handleException(null, null, null, new Object[] {}, t);
+	}
+
+	private static void assertIsNotHandled(ExceptionHandlerRegistry registry,
+			Throwable t) {
+		try {
+			handle(registry, t);
+			fail("The throwable has been handled");
+		} catch (Throwable thrown) {
+			assertSame(thrown, t);
+		}
+	}
+
+	@Test
+	public void onlySuitableHandlerIsInvoked() throws Throwable {
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkIn(Arrays.asList(new ReturningHandler(
+				IllegalStateException.class, "state"), new ReturningHandler(
+				NoSuchElementException.class, "element")));
+		assertEquals(handle(registry, new NoSuchElementException()), "element");
+		assertIsNotHandled(registry, new IllegalArgumentException());
+	}
+
+	@Test
+	public void nextHandlerIsTriedWhenPreviousOneFails() throws Throwable {
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkIn(Arrays.asList(new FailingHandler(
+				IllegalStateException.class), new ReturningHandler(
+				IllegalStateException.class, "second")));
+		assertEquals(handle(registry, new IllegalStateException()), "second");
+	}
+
+	@Test
+	public void messagePatternIsChecked() throws Throwable {
+		ReturningHandler handler = new ReturningHandler(
+				IllegalStateException.class, "handled");
+		handler.setExpectedMessagePattern("stale");
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkIn(Collections.singletonList(handler));
+		assertEquals(handle(registry, new IllegalStateException(
+				"element is stale")), "handled");
+		assertIsNotHandled(registry, new IllegalStateException("other"));
+	}
+
+	@Test
+	public void addedThrowableClassIsIndexed() throws Throwable {
+		ReturningHandler handler = new ReturningHandler(
+				IllegalStateException.class, "handled");
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkIn(Collections.singletonList(handler));
+		assertIsNotHandled(registry, new UnsupportedOperationException());
+		handler.addThrowableClass(UnsupportedOperationException.class);
+		assertEquals(handle(registry, new UnsupportedOperationException()),
+				"handled");
+	}
+
+	@Test
+	public void reentrantCheckOutKeepsOuterHandlers() throws Throwable {
+		List<ModelObjectExceptionHandler> handlers = Collections
+				.singletonList(new ReturningHandler(
+						IllegalStateException.class, "handled"));
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkInDeclared(handlers); // the outer invocation
+		registry.checkInDeclared(handlers); // the inner invocation
+		registry.checkOutDeclared(handlers);
+		assertEquals(handle(registry, new IllegalStateException()), "handled");
+		registry.checkOutDeclared(handlers);
+		assertIsNotHandled(registry, new IllegalStateException());
+	}
+
+	@Test
+	public void checkOutRemovesHandlerCheckedInTwice() throws Throwable {
+		List<ModelObjectExceptionHandler> handlers = Collections
+				.singletonList(new ReturningHandler(
+						IllegalStateException.class, "handled"));
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkIn(handlers);
+		registry.checkIn(handlers);
+		registry.checkOut(handlers);
+		assertIsNotHandled(registry, new IllegalStateException());
+	}
+
+	@Test
+	public void declaredCheckOutKeepsCheckedInHandler() throws Throwable {
+		List<ModelObjectExceptionHandler> handlers = Collections
+				.singletonList(new ReturningHandler(
+						IllegalStateException.class, "handled"));
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry();
+		registry.checkIn(handlers);
+		registry.checkInDeclared(handlers);
+		registry.checkOutDeclared(handlers);
+		assertEquals(handle(registry, new IllegalStateException()), "handled");
+	}
+
+	@Test
+	public void changeOfGivenSetIsIndexed() throws Throwable {
+		Set<ModelObjectExceptionHandler> checkedIn = new HashSet<ModelObjectExceptionHandler>();
+		ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry(
+				checkedIn);
+		assertIsNotHandled(registry, new IllegalStateException());
+		checkedIn.add(new ReturningHandler(IllegalStateException.class,
+				"handled"));
+		assertEquals(handle(registry, new IllegalStateException()), "handled");
+	}
+}
@@ -0,0 +1,81 @@
+package com.github.arachnidium.model.common;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.util.Arrays;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.HowToGetByFrames;
+import com.github.arachnidium.core.HowToGetMobileScreen;
+import com.github.arachnidium.core.HowToGetPage;
+
+public class PartCacheTest {
+
+	private static HowToGetPage getPage(String title, String... urls) {
+		HowToGetPage howToGetPage = new HowToGetPage();
+		howToGetPage.setExpected(title);
+		if (urls.length > 0)
+			howToGetPage.setExpected(Arrays.asList(urls));
+		return howToGetPage;
+	}
+
+	private static HowToGetByFrames getFrames(Object... path) {
+		HowToGetByFrames howToGetByFrames = new HowToGetByFrames();
+		for (Object frame : path)
+			howToGetByFrames.addNextFrame(frame);
+		return howToGetByFrames;
+	}
+
+	@Test
+	public void equalStrategiesGiveTheSameKey() {
+		assertEquals(
+				PartCache.getKey(new Object[] { Object.class,
+						getPage("Google", "google\\.com") }),
+				PartCache.getKey(new Object[] { Object.class,
+						getPage("Google", "google\\.com") }));
+	}
+
+	@Test
+	public void differentStrategiesGiveDifferentKeys() {
+		assertNotEquals(
+				PartCache.getKey(new Object[] { Object.class, getPage("Google") }),
+				PartCache.getKey(new Object[] { Object.class, getPage("Bing") }));
+		assertNotEquals(
+				PartCache.getKey(new Object[] { Object.class,
+						getPage("Google", "google\\.com") }),
+				PartCache.getKey(new Object[] { Object.class,
+						getPage("Google", "google\\.ru") }));
+	}
+
+	@Test
+	public void strategiesOfWindowsAndContextsGiveDifferentKeys() {
+		HowToGetMobileScreen howToGetMobileScreen = new HowToGetMobileScreen();
+		howToGetMobileScreen.setExpected("Google");
+		assertNotEquals(
+				PartCache.getKey(new Object[] { Object.class, getPage("Google") }),
+				PartCache.getKey(new Object[] { Object.class,
+						howToGetMobileScreen }));
+	}
+
+	@Test
+	public void framePathsAndRootsAreCompared() {
+		assertEquals(
+				PartCache.getKey(new Object[] { Object.class,
+						getFrames("main", 1), By.id("root") }),
+				PartCache.getKey(new Object[] { Object.class,
+						getFrames("main", 1), By.id("root") }));
+		assertNotEquals(
+				PartCache.getKey(new Object[] { Object.class,
+						getFrames("main", 1), By.id("root") }),
+				PartCache.getKey(new Object[] { Object.class,
+						getFrames("main", 2), By.id("root") }));
+		assertNotEquals(
+				PartCache.getKey(new Object[] { Object.class,
+						getFrames("main"), By.id("root") }),
+				PartCache.getKey(new Object[] { Object.class,
+						getFrames("main"), By.id("other") }));
+	}
+}
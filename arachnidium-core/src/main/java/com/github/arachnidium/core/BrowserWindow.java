@@ -31,6 +31,17 @@ public class BrowserWindow extends Handle implements Navigation,
 				NavigationTool.class);
 	}
 
+	/**
+	 * The title and the URL are read from the focused window only. 
+	 * Otherwise values of another window would be cached for this one.
+	 * Frames don't matter here
+	 */
+	private void focusOnWindow() {
+		if (!getHandle().equals(driverEncapsulation.getFocusTracker()
+				.getActiveHandle()))
+			switchToMe();
+	}
+
 	/**
 	 * @see org.openqa.selenium.WebDriver.Navigation#back()
 	 */
@@ -66,11 +77,18 @@ public class BrowserWindow extends Handle implements Navigation,
 	}
 
 	/**
+	 * The URL is always read from the browser. The received value is
+	 * remembered for the window matching
+	 * 
 	 * @see com.github.arachnidium.core.interfaces.IExtendedWindow#getCurrentUrl()
 	 */
 	@Override
 	public synchronized String getCurrentUrl() throws NoSuchWindowException {
-		return driverEncapsulation.getWrappedDriver().getCurrentUrl();
+		focusOnWindow();
+		String url = driverEncapsulation.getWrappedDriver().getCurrentUrl();
+		driverEncapsulation.getWindowMetadataCache().putCurrentUrl(
+				getHandle(), url);
+		return url;
 	}
 
 	/**
@@ -90,11 +108,18 @@ public class BrowserWindow extends Handle implements Navigation,
 	}
 
 	/**
+	 * The title is always read from the browser. The received value is
+	 * remembered for the window matching
+	 * 
 	 * @see com.github.arachnidium.core.interfaces.IExtendedWindow#getTitle()
 	 */
 	@Override
 	public synchronized String getTitle() {
-		return driverEncapsulation.getWrappedDriver().getTitle();
+		focusOnWindow();
+		String title = driverEncapsulation.getWrappedDriver().getTitle();
+		driverEncapsulation.getWindowMetadataCache().putTitle(getHandle(),
+				title);
+		return title;
 	}
 
 	/**
@@ -145,4 +170,4 @@ public class BrowserWindow extends Handle implements Navigation,
 		navigationTool.to(url);
 
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
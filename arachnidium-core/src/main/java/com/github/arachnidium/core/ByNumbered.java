@@ -9,18 +9,109 @@ import org.openqa.selenium.WebElement;
 
 /**
  * This class allows to receive the single {@link WebElement} by the locator and
- * the number of the element in the resulted list
- *
+ * the number of the element in the resulted list.<br/>
+ * <br/>
+ * Siblings (objects with the same locator and different numbers) can
+ * share the result of the search (see {@link SharedResult}). So elements
+ * are found once for all of them.
  */
 public class ByNumbered extends By {
 
 	private final By theGivenBy;
 	private final int theDesiredNumber;
+	private final SharedResult sharedResult;
 	private static final int MIN_ACCEPTABLE_NUMBER = 0;
 
+	/**
+	 * It is the result of the search which is shared by
+	 * siblings. Elements are found again when:<br/>
+	 * - the search context is changed;<br/>
+	 * - elements are forgotten (e.g. they are stale);<br/>
+	 * - the result doesn't contain the desired element (an empty 
+	 * or short list is not kept, the list may be re-rendered now);<br/>
+	 * - navigation or frame switching is performed, or the tracked 
+	 * state is invalidated (see {@link FocusTracker}) 
+	 */
+	public static final class SharedResult {
+		private final By by;
+		private final FocusTracker focusTracker;
+		private SearchContext foundFrom;
+		private List<WebElement> found;
+		private long foundAtNavigation;
+		private long foundAtFrameSwitching;
+		private long foundAtInvalidation;
+
+		/**
+		 * @param by is the locator of siblings
+		 * @param focusTracker is the {@link FocusTracker} of the session. 
+		 * Found elements are not reused after navigation, frame switching 
+		 * or invalidation. It may be <code>null</code>
+		 */
+		public SharedResult(By by, FocusTracker focusTracker) {
+			this.by = by;
+			this.focusTracker = focusTracker;
+		}
+
+		public SharedResult(By by) {
+			this(by, null);
+		}
+
+		private boolean isActual(SearchContext context, int desiredNumber) {
+			if (found == null || foundFrom != context
+					|| desiredNumber >= found.size())
+				return false;
+			if (focusTracker == null)
+				return true;
+			return foundAtNavigation == focusTracker.getNavigationCount()
+					&& foundAtFrameSwitching == focusTracker.getFrameSwitchingCount()
+					&& foundAtInvalidation == focusTracker.getInvalidationCount();
+		}
+
+		synchronized List<WebElement> findElements(SearchContext context,
+				int desiredNumber) {
+			if (isActual(context, desiredNumber))
+				return found;
+			
+			if (focusTracker != null) {
+				foundAtNavigation = focusTracker.getNavigationCount();
+				foundAtFrameSwitching = focusTracker.getFrameSwitchingCount();
+				foundAtInvalidation = focusTracker.getInvalidationCount();
+			}
+			List<WebElement> result = by.findElements(context);
+			if (result.isEmpty())
+				forget();
+			else {
+				found = result;
+				foundFrom = context;
+			}
+			return result;
+		}
+
+		/**
+		 * Found elements are forgotten. They
+		 * will be found again at the next search
+		 */
+		public synchronized void forget() {
+			found = null;
+			foundFrom = null;
+		}
+	}
+
 	public ByNumbered(By by, int number) {
+		this(by, number, null);
+	}
+
+	/**
+	 * @param by is the locator of all siblings
+	 * @param number is the number of the desired element
+	 * @param sharedResult is the search result which is shared by siblings. 
+	 * The given {@link By} should be the same as the locator of the shared result. 
+	 * If it is <code>null</code> then elements are found each time
+	 */
+	public ByNumbered(By by, int number, SharedResult sharedResult) {
 		theGivenBy = by;
 		theDesiredNumber = number;
+		this.sharedResult = sharedResult;
 	}
 
 	public ByNumbered(By by) {
@@ -37,7 +128,11 @@ public class ByNumbered extends By {
 	 */
 	@Override
 	public List<WebElement> findElements(SearchContext context) {
-		List<WebElement> result = theGivenBy.findElements(context);
+		List<WebElement> result = null;
+		if (sharedResult != null && theDesiredNumber >= MIN_ACCEPTABLE_NUMBER)
+			result = sharedResult.findElements(context, theDesiredNumber);
+		else
+			result = theGivenBy.findElements(context);
 		if (theDesiredNumber < MIN_ACCEPTABLE_NUMBER)
 			return result;
 		ArrayList<WebElement> toBeReturned = new ArrayList<>();
@@ -46,6 +141,15 @@ public class ByNumbered extends By {
 		return toBeReturned;
 	}
 
+	/**
+	 * Forgets found elements if the search result is shared.
+	 * It is useful when the found element is stale
+	 */
+	public void forgetFoundElements() {
+		if (sharedResult != null)
+			sharedResult.forget();
+	}
+
 	public String toString() {
 		String result = theGivenBy.toString();
 		if (theDesiredNumber >= MIN_ACCEPTABLE_NUMBER )
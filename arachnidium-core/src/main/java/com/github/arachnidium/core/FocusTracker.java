@@ -0,0 +1,197 @@
+package com.github.arachnidium.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.ContextAware;
+import org.openqa.selenium.WebDriver.TargetLocator;
+
+/**
+ * Remembers which window handle/mobile context and which frame path
+ * are focused at the moment. There is one instance per
+ * {@link WebDriverEncapsulation}. It lets {@link Handle#switchToMe()}
+ * skip remote calls when the required target is already active.<br/>
+ * <br/>
+ * It is updated by {@link Manager#switchTo(String)},
+ * {@link HowToGetByFrames#switchTo(org.openqa.selenium.WebDriver)} and
+ * by raw {@link TargetLocator}/{@link ContextAware} calls
+ * which are caught by the listenable driver.<br/>
+ * <br/>
+ * It also counts events which make cached things irrelevant:<br/>
+ * - the invalidation count is incremented by {@link #invalidate()} when
+ * some window/context may be lost (e.g. a NoSuchWindowException is thrown
+ * or a window is closed). Handle liveness checks are repeated after that;<br/>
+ * - the navigation count is incremented by {@link #navigationIsPerformed()}.
+ * Found frame elements are found again after that;<br/>
+ * - the frame switching count is incremented when frames are switched
+ * via {@link TargetLocator} directly or {@link TargetLocator#defaultContent()}
+ * is performed. Found elements may be relevant to another frame after that;<br/>
+ * - the document version is incremented by each of events above and by
+ * {@link #documentMayBeChanged()} (clicks, key sending, scripts etc.).
+ * Things which depend on the whole content of the document can be
+ * checked by it. Found lists are rebuilt only by the counts above.
+ */
+public final class FocusTracker {
+
+	private String activeHandle;
+	//empty list means the top level document, null means unknown state
+	private List<Object> framePath;
+	//it is incremented when some window/context may be lost
+	private long invalidationCount;
+	//it is incremented when some page is loaded
+	private long navigationCount;
+	//it is incremented when frames are switched
+	private long frameSwitchingCount;
+	//it is incremented when the document may be changed
+	private long documentVersion;
+
+	FocusTracker() {
+		super();
+	}
+
+
+	/**
+	 * Is invoked when the given frame path is passed
+	 *
+	 * @param path is a list of frame identifiers
+	 */
+	synchronized void framesAreSwitched(List<Object> path) {
+		if (activeHandle == null) {
+			return;
+		}
+		framePath = new ArrayList<Object>(path);
+	}
+
+	/**
+	 * @param handle is a window handle/mobile context name
+	 * @param path is a list of frame identifiers. <code>null</code>
+	 * means the top level document
+	 * @return <code>true</code> if the given handle and frame path are focused
+	 */
+	synchronized boolean isFocusedOn(String handle, List<Object> path) {
+		if (activeHandle == null || framePath == null) {
+			return false;
+		}
+		if (!activeHandle.equals(handle)) {
+			return false;
+		}
+		List<Object> expected = path;
+		if (expected == null) {
+			expected = Collections.emptyList();
+		}
+		return framePath.equals(expected);
+	}
+
+	/**
+	 * @return the focused window handle/mobile context name or 
+	 * <code>null</code> if it is unknown
+	 */
+	public synchronized String getActiveHandle() {
+		return activeHandle;
+	}
+
+	/**
+	 * Is invoked when the window/context is changed by the framework
+	 * or the window is switched via {@link TargetLocator}
+	 *
+	 * @param handle is a name or a handle of the window/mobile context name
+	 * (or context/page pair) as it is known by {@link Manager}
+	 */
+	public synchronized void handleIsSwitched(String handle) {
+		activeHandle = handle;
+		framePath = new ArrayList<Object>();
+	}
+
+	/**
+	 * Is invoked when the mobile context is switched via {@link ContextAware}
+	 *
+	 * @param context is a name of the context
+	 */
+	public synchronized void contextIsSwitched(String context) {
+		activeHandle = context;
+		framePath = null;
+	}
+
+	/**
+	 * Is invoked when the frame is switched via {@link TargetLocator}
+	 * directly. The resulted frame path is unknown
+	 */
+	public synchronized void frameIsSwitched() {
+		framePath = null;
+		frameSwitchingCount++;
+	}
+
+	/**
+	 * Is invoked when {@link TargetLocator#defaultContent()} is performed
+	 */
+	public synchronized void defaultContentIsSwitched() {
+		frameSwitchingCount++;
+		if (activeHandle == null) {
+			return;
+		}
+		framePath = new ArrayList<Object>();
+	}
+
+	/**
+	 * Is invoked when navigation is performed. The top level document
+	 * is focused after that. Found frame elements are not relevant anymore
+	 */
+	public synchronized void navigationIsPerformed() {
+		navigationCount++;
+		documentVersion++;
+		defaultContentIsSwitched();
+	}
+
+	/**
+	 * @return how many times navigation has been performed.
+	 * It helps to detect that found frame elements are not relevant
+	 */
+	public synchronized long getNavigationCount() {
+		return navigationCount;
+	}
+
+	/**
+	 * @return how many times frames have been switched. 
+	 * It helps to detect that found elements may be not relevant
+	 */
+	public synchronized long getFrameSwitchingCount() {
+		return frameSwitchingCount;
+	}
+
+	/**
+	 * Is invoked when the document may be changed by the performed 
+	 * action (click, key sending, script execution and so on)
+	 */
+	public synchronized void documentMayBeChanged() {
+		documentVersion++;
+	}
+
+	/**
+	 * @return the value which is changed when the document may be changed
+	 * (navigation, actions etc.). Things which are found on the page
+	 * can be reused while this value is the same
+	 */
+	public synchronized long getDocumentVersion() {
+		return documentVersion;
+	}
+
+	/**
+	 * Forgets the focused target. The next switching will be
+	 * performed via remote calls
+	 */
+	public synchronized void invalidate() {
+		activeHandle = null;
+		framePath = null;
+		invalidationCount++;
+		documentVersion++;
+	}
+
+	/**
+	 * @return how many times the tracked state has been forgotten.
+	 * It helps to detect that some window/context may be lost
+	 */
+	public synchronized long getInvalidationCount() {
+		return invalidationCount;
+	}
+}
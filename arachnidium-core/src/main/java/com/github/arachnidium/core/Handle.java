@@ -26,6 +26,7 @@ import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.interfaces.ICalculatesBy;
 import com.github.arachnidium.core.interfaces.IDestroyable;
 import com.github.arachnidium.core.interfaces.IHasHandle;
+import com.github.arachnidium.core.interfaces.IHasLiveness;
 import com.github.arachnidium.core.interfaces.ISwitchesToItself;
 import com.github.arachnidium.core.interfaces.ITakesPictureOfItSelf;
 
@@ -34,7 +35,8 @@ import com.github.arachnidium.core.interfaces.ITakesPictureOfItSelf;
  * context/screen
  */
 public abstract class Handle implements IHasHandle, ISwitchesToItself,
-		ITakesPictureOfItSelf, IDestroyable, SearchContext, ICalculatesBy, WrapsDriver {
+		ITakesPictureOfItSelf, IDestroyable, SearchContext, ICalculatesBy, WrapsDriver,
+		IHasLiveness {
 
 	private String handle;
 	public WebDriverEncapsulation driverEncapsulation;
@@ -74,19 +76,32 @@ public abstract class Handle implements IHasHandle, ISwitchesToItself,
 	}
 
 	/**
-	 * @return flag of the handle existing
+	 * @return flag of the handle existing. The received set of 
+	 * handles is remembered for {@link #isAlive()}
 	 */
 	public synchronized boolean exists() {
 		if (!nativeManager.isAlive())
 			return false;
 		try {
 			Set<String> handles = nativeManager.getHandles();
+			nativeManager.getHandleLiveness().update(handles);
 			return handles.contains(handle);
 		} catch (WebDriverException e) { // if there is no handle
 			return false;
 		}
 	}
 
+	/**
+	 * @return flag of the handle existing. Unlike {@link #exists()} it uses
+	 * the last known set of handles when it is actual
+	 *
+	 * @see com.github.arachnidium.core.interfaces.IHasLiveness#isAlive()
+	 */
+	@Override
+	public boolean isAlive() {
+		return nativeManager.isHandleAlive(handle);
+	}
+
 	/**
 	 * @return Window string handle/mobile context name
 	 *
@@ -102,10 +117,20 @@ public abstract class Handle implements IHasHandle, ISwitchesToItself,
 	 */
 	@Override
 	public synchronized void switchToMe() {
-		nativeManager.switchTo(handle);
+		FocusTracker focusTracker = driverEncapsulation.getFocusTracker();
+		List<Object> framePath = null;
 		if (howToGetByFramesStrategy != null)
+			framePath = howToGetByFramesStrategy.getFramePath();
+		//it is already focused. Nothing to do
+		if (focusTracker.isFocusedOn(handle, framePath))
+			return;
+		
+		nativeManager.switchTo(handle);
+		if (howToGetByFramesStrategy != null){
 			howToGetByFramesStrategy.switchTo(driverEncapsulation
-					.getWrappedDriver());
+					.getWrappedDriver(), focusTracker.getNavigationCount());
+			focusTracker.framesAreSwitched(framePath);
+		}
 	}
 
 	/**
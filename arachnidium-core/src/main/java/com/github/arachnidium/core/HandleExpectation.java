@@ -0,0 +1,122 @@
+package com.github.arachnidium.core;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+
+/**
+ * Waits for a new window/mobile context which appears after some
+ * action (click etc.). Windows/contexts which were present before
+ * the action are not checked. Usage:<br/>
+ * <br/>
+ * <code>HandleExpectation&lt;HowToGetPage, BrowserWindow&gt; expectation = windowManager.expectNewHandle();</code><br/>
+ * <code>link.click();</code><br/>
+ * <code>BrowserWindow popup = expectation.waitFor(howToGetPage);</code><br/>
+ *
+ * @param <U> it is a s strategy of the {@link Handle} receiving
+ * @param <V> it is the expected {@link Handle} class e.g {@link BrowserWindow} or {@link MobileScreen}
+ *
+ * @see Manager#expectNewHandle()
+ */
+public class HandleExpectation<U extends IHowToGetHandle, V extends Handle> {
+	private final Manager<U, V> manager;
+	private final Set<String> knownHandles;
+
+	HandleExpectation(Manager<U, V> manager, Set<String> knownHandles) {
+		this.manager = manager;
+		this.knownHandles = Collections.unmodifiableSet(knownHandles);
+	}
+
+	private long getDefaultTimeOut() {
+		return Manager.getTimeOut(manager.getHandleWaitingTimeOut()
+				.getHandleWaitingTimeOut());
+	}
+
+	/**
+	 * @return windows handles/context names which were present
+	 * when this object was created
+	 */
+	public Set<String> getKnownHandles() {
+		return knownHandles;
+	}
+
+	/**
+	 * Waits for any new window/context
+	 *
+	 * @return Window or mobile context
+	 */
+	public V waitFor() {
+		return waitFor(getDefaultTimeOut(), null);
+	}
+
+	/**
+	 * Waits for any new window/context
+	 *
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            new window/mobile context
+	 * @return Window or mobile context
+	 */
+	public V waitFor(long timeOut) {
+		return waitFor(timeOut, null);
+	}
+
+	/**
+	 * Waits for new window/context which matches given strategy
+	 *
+	 * @param howToGet Given strategy
+	 * @return Window or mobile context
+	 */
+	public V waitFor(U howToGet) {
+		return waitFor(getDefaultTimeOut(), howToGet);
+	}
+
+	/**
+	 * Waits for new window/context which matches given strategy
+	 *
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            new window/mobile context
+	 * @param howToGet Given strategy. If it is <code>null</code> then any new
+	 * window/context is expected
+	 * @return Window or mobile context
+	 */
+	public V waitFor(long timeOut, U howToGet) {
+		return manager.getNewHandle(timeOut, howToGet, knownHandles);
+	}
+
+	/**
+	 * Waits for new window/context which matches given strategy
+	 * and passes it to the given callback
+	 *
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            new window/mobile context
+	 * @param howToGet Given strategy. If it is <code>null</code> then any new
+	 * window/context is expected
+	 * @param whenAppeared is invoked when the new window/context is found
+	 */
+	public void waitFor(long timeOut, U howToGet, Consumer<V> whenAppeared) {
+		whenAppeared.accept(waitFor(timeOut, howToGet));
+	}
+
+	/**
+	 * Waits for new window/context by the given executor. It
+	 * uses the same {@link org.openqa.selenium.WebDriver} which is not 
+	 * thread-safe. So the driver and any window/context/element of it 
+	 * must not be used until the returned future is completed
+	 *
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            new window/mobile context
+	 * @param howToGet Given strategy. If it is <code>null</code> then any new
+	 * window/context is expected
+	 * @param executor performs the waiting
+	 * @return {@link Future} of the new window/context
+	 */
+	public Future<V> waitForAsync(long timeOut, U howToGet, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> waitFor(timeOut, howToGet),
+				executor);
+	}
+}
@@ -1,8 +1,6 @@
 package com.github.arachnidium.core;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 
 import net.sf.cglib.proxy.MethodProxy;
 
@@ -12,9 +10,11 @@ import org.openqa.selenium.internal.WrapsDriver;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.interfaces.ICalculatesBy;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.interfaces.IHasLiveness;
 import com.github.arachnidium.core.interfaces.ISwitchesToItself;
-import com.github.arachnidium.util.inheritance.MethodInheritanceUtil;
+import com.github.arachnidium.util.inheritance.MethodClassification;
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
+import com.github.arachnidium.util.proxy.DispatchTable;
 
 class HandleInterceptor<U extends IHowToGetHandle> extends DefaultInterceptor {
 	private Handle handle;
@@ -23,24 +23,38 @@ class HandleInterceptor<U extends IHowToGetHandle> extends DefaultInterceptor {
 	private final long timeOut;
 	private final By by;
 	private final HowToGetByFrames howToGetByFramesStrategy;
-	private final static List<Class<?>> classesThatDontRequireFocusOnTheHandle = 
-			new ArrayList<Class<?>>() {
-		private static final long serialVersionUID = 1L;
-		{
-			add(Object.class);
-			add(ICalculatesBy.class);
-			add(WrapsDriver.class);
-		}
-
-	};
+	private final static MethodClassification classification = new MethodClassification(
+			Object.class, ICalculatesBy.class, WrapsDriver.class,
+			ISwitchesToItself.class, IDestroyable.class, IHasLiveness.class);
+	private final static int OBJECT_METHOD = classification
+			.getFlag(Object.class);
+	private final static int DOESNT_REQUIRE_FOCUS = OBJECT_METHOD
+			| classification.getFlag(ICalculatesBy.class)
+			| classification.getFlag(WrapsDriver.class);
+	private final static int DOESNT_REQUIRE_SWITCHING = DOESNT_REQUIRE_FOCUS
+			| classification.getFlag(ISwitchesToItself.class)
+			| classification.getFlag(IDestroyable.class);
+	private final static int LIVENESS_METHOD = classification
+			.getFlag(IHasLiveness.class);
 
 	public HandleInterceptor(Manager<U, ?> manager, U howToGetHandle,
 			long timeOut, By by, HowToGetByFrames howToGetByFramesStrategy) {
+		this(manager, howToGetHandle, timeOut, by, howToGetByFramesStrategy, null);
+	}
+	
+	/**
+	 * This constructor is used when the real {@link Handle} 
+	 * has been found already
+	 */
+	HandleInterceptor(Manager<U, ?> manager, U howToGetHandle,
+			long timeOut, By by, HowToGetByFrames howToGetByFramesStrategy, 
+			Handle handle) {
 		this.howToGetHandle = howToGetHandle;
 		this.timeOut = timeOut;
 		this.manager = manager;
 		this.by = by;
 		this.howToGetByFramesStrategy = howToGetByFramesStrategy;
+		this.handle = handle;
 	}
 
 	private void instantiateHandle() {
@@ -49,7 +63,7 @@ class HandleInterceptor<U extends IHowToGetHandle> extends DefaultInterceptor {
 					howToGetByFramesStrategy);
 			return;
 		}
-		if (!handle.exists() && manager.isAlive()) {
+		if (!manager.isHandleAlive(handle.getHandle()) && manager.isAlive()) {
 			handle = manager.getRealHandle(timeOut, howToGetHandle, by,
 					howToGetByFramesStrategy);
 			return;
@@ -60,21 +74,21 @@ class HandleInterceptor<U extends IHowToGetHandle> extends DefaultInterceptor {
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {	
 		
-		if (!MethodInheritanceUtil.isOverriddenFromAny(method, 
-				classesThatDontRequireFocusOnTheHandle))
+		int flags = classification.getFlags(method);
+		// liveness is checked without any waiting for the real handle.
+		// The handle which has not been looked for yet will be found
+		// by the first usage. So it is alive while the driver is alive
+		if ((flags & LIVENESS_METHOD) != 0)
+			return handle != null ? handle.isAlive() : manager.isAlive();
+
+		if ((flags & DOESNT_REQUIRE_FOCUS) == 0)
 			instantiateHandle();			
 		
-		if (handle != null
-				&& !MethodInheritanceUtil.isOverriddenFromAny(method, 
-						classesThatDontRequireFocusOnTheHandle) 
-				&& !MethodInheritanceUtil.isOverriddenFrom(method,
-						ISwitchesToItself.class) && !MethodInheritanceUtil.isOverriddenFrom(method, 
-								IDestroyable.class))
+		if (handle != null && (flags & DOESNT_REQUIRE_SWITCHING) == 0)
 			handle.switchToMe();
 		
-		if (!MethodInheritanceUtil.isOverriddenFrom(method, Object.class) && 
-				handle != null)
-			return method.invoke(handle, args);
+		if ((flags & OBJECT_METHOD) == 0 && handle != null)
+			return DispatchTable.invoke(handle, method, args);
 
 		return super.intercept(obj, method, args, proxy);
 	}
@@ -0,0 +1,93 @@
+package com.github.arachnidium.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.openqa.selenium.WebDriverException;
+
+import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
+import com.github.arachnidium.core.settings.Polling;
+
+/**
+ * Keeps the last received set of window handles/context names
+ * of the {@link Manager}. So there is no need to get it from the remote side
+ * each time when some {@link Handle} is used.<br/>
+ * <br/>
+ * The set is received again when:<br/>
+ * - the required handle is not in the set<br/>
+ * - some window/context may be lost (see {@link FocusTracker#invalidate()})<br/>
+ * - the set was invalidated explicitly<br/>
+ * - the set is older than the "handleLivenessMaxAge" setting. If it is not
+ * defined then the max polling interval is used (see {@link Polling#getMaxInterval()}).
+ * So a window/context which is closed by a script or by the user is not
+ * reported alive longer than the one polling interval<br/>
+ * - the set is received by {@link Handle#exists()}
+ *
+ * @see HandleWaitingTimeOut
+ */
+class HandleLiveness {
+	private final Manager<?, ?> manager;
+	private Set<String> aliveHandles = Collections.emptySet();
+	private long receivedAt;
+	private long invalidationCount = -1;
+
+	HandleLiveness(Manager<?, ?> manager) {
+		this.manager = manager;
+	}
+
+	private FocusTracker getFocusTracker() {
+		return manager.getWebDriverEncapsulation().getFocusTracker();
+	}
+
+	private boolean isOutdated() {
+		if (invalidationCount != getFocusTracker().getInvalidationCount())
+			return true;
+		Long maxAge = manager.getWebDriverEncapsulation()
+				.getWrappedConfiguration().getSection(HandleWaitingTimeOut.class)
+				.getHandleLivenessMaxAge();
+		if (maxAge == null)
+			maxAge = manager.getWebDriverEncapsulation()
+					.getWrappedConfiguration().getSection(Polling.class)
+					.getMaxInterval();
+		return System.currentTimeMillis() - receivedAt > maxAge;
+	}
+
+	private void refresh() {
+		invalidationCount = getFocusTracker().getInvalidationCount();
+		try {
+			aliveHandles = new HashSet<String>(manager.getHandles());
+		} catch (WebDriverException e) { // if there is no handle
+			aliveHandles = Collections.emptySet();
+		}
+		receivedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * @param handle is a window handle/context name
+	 * @return <code>true</code> if the window/context is present
+	 */
+	synchronized boolean isAlive(String handle) {
+		if (aliveHandles.contains(handle) && !isOutdated())
+			return true;
+		refresh();
+		return aliveHandles.contains(handle);
+	}
+
+	/**
+	 * @param handles is the set of handles which has been just received
+	 */
+	synchronized void update(Set<String> handles) {
+		invalidationCount = getFocusTracker().getInvalidationCount();
+		aliveHandles = new HashSet<String>(handles);
+		receivedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * The set of handles will be received again
+	 * by the next checking
+	 */
+	synchronized void invalidate() {
+		aliveHandles = Collections.emptySet();
+	}
+}
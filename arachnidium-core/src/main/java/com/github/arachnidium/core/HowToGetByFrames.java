@@ -1,9 +1,13 @@
 package com.github.arachnidium.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
@@ -26,6 +30,12 @@ public class HowToGetByFrames {
 		}
 	};
 	final ArrayList<Object> framePath = new ArrayList<Object>();
+	
+	//frame elements which have been found by By identifiers (level -> element).
+	//They are reused until they are stale or some page is loaded
+	private final Map<Integer, WebElement> foundFrames = new HashMap<Integer, WebElement>();
+	private WebDriver foundBy;
+	private long foundAtNavigation;
 
 	/**
 	 * This method performs the switching from
@@ -37,28 +47,65 @@ public class HowToGetByFrames {
 	 * @see TargetLocator
 	 */
 	public void switchTo(WebDriver driver) {
-		framePath.forEach((frameIdentifier) -> {
+		switchTo(driver, foundAtNavigation);
+	}
+	
+	/**
+	 * This method performs the switching from
+	 * one to another specified frame. Previously found frame elements are
+	 * forgotten if the given navigation count is changed
+	 * 
+	 * @param driver is the instance of {@link WebDriver}
+	 * @param navigationCount is how many times navigation has been performed
+	 * 
+	 * @see FocusTracker
+	 */
+	synchronized void switchTo(WebDriver driver, long navigationCount) {
+		if (foundBy != driver || foundAtNavigation != navigationCount) {
+			foundFrames.clear();
+			foundBy = driver;
+			foundAtNavigation = navigationCount;
+		}
+		
+		for (int level = 0; level < framePath.size(); level++) {
+			Object frameIdentifier = framePath.get(level);
 			if (frameIdentifier instanceof String) {
 				driver.switchTo().frame(String.valueOf(frameIdentifier));
-				return;
+				continue;
 			}
 
 			if (frameIdentifier instanceof Integer) {
 				driver.switchTo().frame((int) frameIdentifier);
-				return;
+				continue;
 			}
 
 			if (frameIdentifier instanceof By) {
-				driver.switchTo().frame(
-						driver.findElement((By) frameIdentifier));
-				return;
+				switchToFoundFrame(driver, level, (By) frameIdentifier);
+				continue;
 			}
 			
 			if (frameIdentifier instanceof WebElement) {
 				driver.switchTo().frame((WebElement) frameIdentifier);
-				return;
+				continue;
 			}			
-		});
+		}
+	}
+	
+	private void switchToFoundFrame(WebDriver driver, int level, By by) {
+		WebElement frame = foundFrames.get(level);
+		if (frame != null) {
+			try {
+				driver.switchTo().frame(frame);
+				return;
+			} catch (StaleElementReferenceException | NoSuchFrameException e) {
+				//the frame has been reloaded or it is not a frame 
+				//any more. Frames which are inside are not relevant too
+				foundFrames.keySet().removeIf((key) -> key >= level);
+			}
+		}
+		frame = driver.findElement(by);
+		driver.switchTo().frame(frame);
+		foundFrames.put(level, frame);
 	}
 
 	/**
@@ -60,6 +60,14 @@ public class HowToGetMobileScreen extends HowToGetHandle implements ICloneable{
 			result = result + " activities are " + uniqueIdentifiers.toString();
 		}
 		
+		if (handle != null){
+			result = result + " context name is " + handle;
+		}
+		
+		if (howToGetPageStrategy != null){
+			result = result + " page is" + howToGetPageStrategy.toString();
+		}
+		
 		return result;
 	}	
 	
@@ -57,6 +57,10 @@ public class HowToGetPage extends HowToGetHandle implements ICloneable {
 			result = result + " URLs are " + uniqueIdentifiers.toString();
 		}
 		
+		if (handle != null){
+			result = result + " handle is " + handle;
+		}
+		
 		return result;
 	}
 	
@@ -1,8 +1,10 @@
 package com.github.arachnidium.core;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,8 +18,8 @@ import org.openqa.selenium.NoAlertPresentException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.pagefactory.ByChained;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.support.AbstractApplicationContext;
 
+import com.github.arachnidium.core.bean.SharedBeanContexts;
 import com.github.arachnidium.core.components.common.AlertHandler;
 import com.github.arachnidium.core.components.common.Awaiting;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
@@ -25,6 +27,7 @@ import com.github.arachnidium.core.interfaces.IDestroyable;
 import com.github.arachnidium.core.interfaces.IHasHandle;
 import com.github.arachnidium.core.settings.AlertIsPresentTimeOut;
 import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 
 /**
  * This an abstraction that describes the
@@ -45,19 +48,23 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 
 	final Awaiting awaiting;
 	private final WebDriverEncapsulation driverEncapsulation;
-	protected final AbstractApplicationContext context;
+	// listenable windows/contexts are created by the shared context of this configuration
+	private final Class<?> beanConfiguration;
 	boolean isAlive = true;
 	private final HandleReceptionist handleReceptionist = new HandleReceptionist();
+	private final HandleLiveness handleLiveness;
 
 	private final static Map<WebDriverEncapsulation, Manager<?,?>> managerMap = Collections
 			.synchronizedMap(new HashMap<WebDriverEncapsulation, Manager<?,?>>());
 	final static long defaultTimeOut = 5; // we will wait
-	Manager(WebDriverEncapsulation initialDriverEncapsulation, AbstractApplicationContext context) {
+	Manager(WebDriverEncapsulation initialDriverEncapsulation, Class<?> beanConfiguration) {
 		driverEncapsulation = initialDriverEncapsulation;
-		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver());
+		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver(),
+				driverEncapsulation);
 		managerMap.put(driverEncapsulation, this);
 		driverEncapsulation.addDestroyable(this);
-		this.context = context;
+		this.beanConfiguration = beanConfiguration;
+		handleLiveness = new HandleLiveness(this);
 	}
 
 	/**
@@ -74,6 +81,7 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	public void destroy() {
 		managerMap.remove(driverEncapsulation);
 		isAlive = false;
+		handleLiveness.invalidate();
 		List<IHasHandle> toBeDestroyed = handleReceptionist.getInstantiated();
 		toBeDestroyed.forEach((hasHandle) -> ((IDestroyable) hasHandle)
 				.destroy());
@@ -87,8 +95,8 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 		Long time = driverEncapsulation.getWrappedConfiguration()
 				.getSection(AlertIsPresentTimeOut.class).getAlertIsPresentTimeOut();
 		return driverEncapsulation.getComponent(AlertHandler.class,
-				new Class[] { long.class },
-				new Object[] {time});
+				new Class[] { long.class, IConfigurationWrapper.class },
+				new Object[] {time, driverEncapsulation});
 		
 	}
 
@@ -101,8 +109,8 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	public synchronized Alert getAlert(long timeOut)
 			throws NoAlertPresentException {
 		return driverEncapsulation.getComponent(AlertHandler.class,
-				new Class[] { long.class },
-				new Object[] { timeOut });
+				new Class[] { long.class, IConfigurationWrapper.class },
+				new Object[] { timeOut, driverEncapsulation });
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -235,11 +243,16 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 */
 	abstract Set<String> getHandles();
 	
-	@SuppressWarnings("unchecked")
 	private V createProxy(long timeOut, U howToGet, By by, 
 			HowToGetByFrames howToGetByFramesStrategy){
+		return createProxy(timeOut, howToGet, by, howToGetByFramesStrategy, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private V createProxy(long timeOut, U howToGet, By by, 
+			HowToGetByFrames howToGetByFramesStrategy, V realHandle){
 		HandleInterceptor<U> hi = new HandleInterceptor<U>(
-				this, howToGet, timeOut, by, howToGetByFramesStrategy);
+				this, howToGet, timeOut, by, howToGetByFramesStrategy, realHandle);
 		ParameterizedType generic = (ParameterizedType) this.getClass().getGenericSuperclass();
 		Class<V> required = null;
 		try {
@@ -419,6 +432,58 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	}	
 	
 	
+	/**
+	 * Remembers windows/mobile contexts which are present now. 
+	 * It should be invoked before the action which opens
+	 * a new window/context. Only new windows/contexts are checked
+	 * then.
+	 * 
+	 * @return {@link HandleExpectation} which waits for 
+	 * a new window/context
+	 */
+	public HandleExpectation<U, V> expectNewHandle(){
+		return new HandleExpectation<U, V>(this, 
+				new HashSet<String>(getHandles()));
+	}
+	
+	/**
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            new window/mobile context 
+	 * @param howToGet Given strategy. If it is <code>null</code> then
+	 * any new window/context is expected
+	 * @param knownHandles windows/contexts which were present before
+	 * @return Window or mobile context. Actually it returns CGLIB proxy
+	 * of the found object
+	 */
+	V getNewHandle(long timeOut, U howToGet, Set<String> knownHandles){
+		String handle = getNewStringHandle(timeOut, howToGet, knownHandles);
+		U strategy = howToGet;
+		if (strategy == null){ //the found handle is pinned. Other windows/contexts are not used 
+			strategy = returnRelevantHowToGetStrategy();
+			strategy.setExpectedHandle(handle);
+		}
+		V realHandle = createRealHandle(handle, null, null);
+		return createProxy(timeOut, strategy, null, null, realHandle);
+	}
+	
+	/**
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            new window/mobile context
+	 * @param howToGet Given strategy. If it is <code>null</code> then
+	 * any new window/context is expected 
+	 * @param knownHandles windows/contexts which are not checked
+	 * @return Window handle/context name
+	 */
+	abstract String getNewStringHandle(long timeOut, U howToGet, 
+			Set<String> knownHandles);
+	
+	/**
+	 * @param handle is the found window handle/context name
+	 * @return Window or mobile context.
+	 */
+	abstract V createRealHandle(String handle, By by, 
+			HowToGetByFrames howToGetByFramesStrategy);
+	
 	/**
 	 * Returns window on mobile context 
 	 * by conditions. 
@@ -449,6 +514,22 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 		return isAlive;
 	}
 
+	/**
+	 * @param handle is a window handle/context name
+	 * @return <code>true</code> if the given window/context is present.
+	 * It uses the previously received list of handles while it is 
+	 * relevant
+	 */
+	boolean isHandleAlive(String handle) {
+		if (!isAlive)
+			return false;
+		return handleLiveness.isAlive(handle);
+	}
+	
+	HandleLiveness getHandleLiveness() {
+		return handleLiveness;
+	}
+
 	/**
 	 * Sets focus on window/mobile context by string 
 	 * parameter
@@ -456,7 +537,14 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * @param String window handle/context name
 	 */
 	synchronized void switchTo(String handle) {
-		changeActive(handle);
+		FocusTracker focusTracker = driverEncapsulation.getFocusTracker();
+		try {
+			changeActive(handle);
+		} catch (RuntimeException e) {
+			focusTracker.invalidate();
+			throw e;
+		}
+		focusTracker.handleIsSwitched(handle);
 	}
 
 	/**
@@ -480,7 +568,8 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 */
 	@SuppressWarnings("unchecked")
 	<T extends Handle> T returnNewCreatedListenableHandle(Handle handle, String beanName){
-		T result = (T) context.getBean(beanName, handle, driverEncapsulation);
+		T result = (T) SharedBeanContexts.getBean(beanConfiguration,
+				driverEncapsulation, beanName, handle, driverEncapsulation);
 		if (!getHandleReceptionist().isInstantiated(handle.getHandle()))
 			result.whenIsCreated();
 		getHandleReceptionist().addKnown(handle);
@@ -45,6 +45,8 @@ public class MobileScreen extends Handle implements IContext {
 	public synchronized void switchToMe() {
 		String handle = getHandle();
 		if (getHandle().contains(MobileContextNamePatterns.NATIVE)){
+			if (driverEncapsulation.getFocusTracker().isFocusedOn(handle, null))
+				return;
 			nativeManager.switchTo(handle);
 			return;
 		}
@@ -2,44 +2,90 @@ package com.github.arachnidium.core;
 
 
 import com.github.arachnidium.core.components.common.TimeOut;
-import com.github.arachnidium.util.inheritance.MethodInheritanceUtil;
+import com.github.arachnidium.util.inheritance.MethodClassification;
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
+import com.github.arachnidium.util.proxy.DispatchTable;
 import net.sf.cglib.proxy.MethodProxy;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
 
 class NestedElementInterceptor extends DefaultInterceptor {
+    private final static MethodClassification classification = new MethodClassification(
+            WrapsDriver.class);
+    private final static int WRAPS_DRIVER_METHOD = classification
+            .getFlag(WrapsDriver.class);
 
     private final Handle handle;
+    /**
+     * The found root element is reused until it is stale or
+     * navigation/frame switching is performed
+     */
+    private WebElement rootElement;
+    private long foundAtNavigation;
+    private long foundAtFrameSwitching;
+    private long foundAtInvalidation;
 
     NestedElementInterceptor(Handle handle) {
         this.handle = handle;
     }
 
+    private WebElement findRootElement(WebDriver driver) {
+        TimeOut timeOut = handle.driverEncapsulation.getTimeOut();
+        long timeOutValue = timeOut.getImplicitlyWaitTimeOut();
+        TimeUnit timeUnit = timeOut.getImplicitlyWaitTimeUnit();
+        try (TimeOut.ImplicitlyWaitScope scope = timeOut.withImplicitlyWait(0, TimeUnit.SECONDS)) {
+            WebDriverWait wait = new WebDriverWait(driver, TimeUnit.SECONDS.convert(timeOutValue, timeUnit));
+            return wait.until(ExpectedConditions.presenceOfElementLocated(handle.by));
+        }
+    }
+
+    private synchronized WebElement getRootElement(WebDriver driver) {
+        FocusTracker focusTracker = handle.driverEncapsulation.getFocusTracker();
+        if (rootElement != null
+                && foundAtNavigation == focusTracker.getNavigationCount()
+                && foundAtFrameSwitching == focusTracker.getFrameSwitchingCount()
+                && foundAtInvalidation == focusTracker.getInvalidationCount())
+            return rootElement;
+
+        rootElement = findRootElement(driver);
+        foundAtNavigation = focusTracker.getNavigationCount();
+        foundAtFrameSwitching = focusTracker.getFrameSwitchingCount();
+        foundAtInvalidation = focusTracker.getInvalidationCount();
+        return rootElement;
+    }
+
+    private synchronized void forgetRootElement() {
+        rootElement = null;
+    }
+
     @Override
     public Object intercept(Object obj, Method method, Object[] args,
                             MethodProxy proxy) throws Throwable {
         final WebDriver driver = handle.driverEncapsulation.getWrappedDriver();
-        if (MethodInheritanceUtil.isOverriddenFrom(method, WrapsDriver.class))
+        if (classification.isOverriddenFromAny(method, WRAPS_DRIVER_METHOD))
             return driver;
 
-        TimeOut timeOut = handle.driverEncapsulation.getTimeOut();
-        long timeOutValue = timeOut.getImplicitlyWaitTimeOut();
-        TimeUnit timeUnit = timeOut.getImplicitlyWaitTimeUnit();
+        handle.switchToMe();
         try {
-            handle.switchToMe();
-            timeOut.implicitlyWait(0, TimeUnit.SECONDS);
-            WebDriverWait wait = new WebDriverWait(driver, TimeUnit.SECONDS.convert(timeOutValue, timeUnit));
-            return method.invoke(wait.until(ExpectedConditions.presenceOfElementLocated(handle.by)), args);
-        } finally {
-            timeOut.implicitlyWait(timeOutValue, timeUnit);
+            return DispatchTable.invoke(getRootElement(driver), method, args);
+        } catch (InvocationTargetException e) {
+            if (!StaleElementReferenceException.class.isAssignableFrom(e
+                    .getCause().getClass()))
+                throw e;
+            // the element should be found again. The action is retried once
+            forgetRootElement();
+            if (handle.by instanceof ByNumbered)
+                ((ByNumbered) handle.by).forgetFoundElements();
+            return DispatchTable.invoke(getRootElement(driver), method, args);
         }
-
     }
 
 }
@@ -8,11 +8,12 @@ import org.openqa.selenium.NoSuchContextException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import com.github.arachnidium.core.bean.BeanContextConfiguration;
 import com.github.arachnidium.core.components.mobile.ContextTool;
 import com.github.arachnidium.core.fluenthandle.FluentPageWaiting;
 import com.github.arachnidium.core.fluenthandle.FluentScreenWaiting;
+import com.github.arachnidium.core.fluenthandle.HandleMatchingPlan;
+import com.github.arachnidium.core.fluenthandle.IFunctionalHandleCondition;
 import com.github.arachnidium.util.logging.Log;
 
 public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScreen> {
@@ -22,8 +23,7 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	private String SPLITTER = "/";
 
 	public ScreenManager(WebDriverEncapsulation initialDriverEncapsulation) {
-		super(initialDriverEncapsulation, 
-				new AnnotationConfigApplicationContext(BeanContextConfiguration.class));
+		super(initialDriverEncapsulation, BeanContextConfiguration.class);
 		contextTool = getWebDriverEncapsulation().getComponent(
 				ContextTool.class);
 		WebDriver wrappedDriver = getWebDriverEncapsulation()
@@ -71,12 +71,16 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 			throws NoSuchContextException {
 		HowToGetMobileScreen clone = howToGet.cloneThis();
 		HowToGetPage howToGetPage = clone.getHowToGetPageStrategy();
+		//conditions are compiled once. They are not compiled by each polling
+		IFunctionalHandleCondition contextCondition = clone.getExpectedCondition(new FluentScreenWaiting());
+		IFunctionalHandleCondition pageCondition = howToGetPage == null ? null :
+			howToGetPage.getExpectedCondition(new FluentPageWaiting());
 		
 		//This expected condition tries to find context.
 		//If WEBVIEW is found and page parameters are defined 
 		//then it attempts to find a required page inside WEBVIEW
 		ExpectedCondition<String> ec = input -> {
-			String context = clone.getExpectedCondition(new FluentScreenWaiting()).apply(input);
+			String context = contextCondition.apply(input);
 			if (howToGetPage == null)
 				return context;
 			
@@ -86,7 +90,7 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 								+ " So " + howToGetPage.toString() + " has been ignored.");
 				return context;
 			}				
-			String pageHandle = howToGetPage.getExpectedCondition(new FluentPageWaiting()).apply(input);
+			String pageHandle = pageCondition.apply(input);
 			if (pageHandle == null){
 				return null;
 			}
@@ -109,6 +113,37 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 		}
 	}
 
+	/**
+	 * New contexts are checked by context name and activities.
+	 * A {@link HowToGetPage} strategy isn't used here
+	 */
+	@Override
+	String getNewStringHandle(long timeOut, HowToGetMobileScreen howToGet,
+			Set<String> knownHandles) throws NoSuchContextException {
+		HandleMatchingPlan plan = HandleMatchingPlan.anyHandle();
+		if (howToGet != null)
+			plan = isSupportActivities(howToGet.cloneThis()).compile();
+		try {
+			return awaiting.awaitCondition(timeOut, new FluentScreenWaiting()
+					.getNewHandle(plan, knownHandles));
+		} catch (TimeoutException e) {
+			String condition = "any new context";
+			if (howToGet != null)
+				condition = howToGet.toString();
+			throw new NoSuchContextException("Can't find new screen! Condition is "
+					+ condition, e);
+		}
+	}
+
+	@Override
+	MobileScreen createRealHandle(String handle, By by,
+			HowToGetByFrames howToGetByFramesStrategy) {
+		MobileScreen context = new MobileScreen(handle, this, by, 
+				howToGetByFramesStrategy);
+		return returnNewCreatedListenableHandle(context,
+				BeanContextConfiguration.MOBILE_CONTEXT_BEAN);
+	}
+
 	@Override
 	MobileScreen getRealHandle(long timeOut,
 			HowToGetMobileScreen howToGet, By by, 
@@ -116,10 +151,6 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 		
 		String handle = this.getStringHandle(timeOut,
 				isSupportActivities(howToGet));
-		
-		MobileScreen context = new MobileScreen(handle, this, by, 
-				howToGetByFramesStrategy);
-		return returnNewCreatedListenableHandle(context,
-				BeanContextConfiguration.MOBILE_CONTEXT_BEAN);
+		return createRealHandle(handle, by, howToGetByFramesStrategy);
 	}
 }
@@ -17,18 +17,23 @@
 
 package com.github.arachnidium.core;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
-import org.springframework.context.support.AbstractApplicationContext;
 
+import com.github.arachnidium.core.bean.SharedBeanContexts;
 import com.github.arachnidium.core.bean.WebDriverBeanConfiguration;
+import com.github.arachnidium.core.bean.WebDriverSession;
 import com.github.arachnidium.core.components.ComponentFactory;
 import com.github.arachnidium.core.components.WebdriverComponent;
+import com.github.arachnidium.core.components.common.AlertHandler;
 import com.github.arachnidium.core.components.common.TimeOut;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.settings.WebDriverSettings;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.util.configuration.Configuration;
 import com.github.arachnidium.util.configuration.interfaces.IConfigurable;
@@ -47,6 +52,11 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 
 	private Configuration configuration = Configuration.byDefault;
 	private final DestroyableObjects destroyableObjects = new DestroyableObjects();
+	private final FocusTracker focusTracker = new FocusTracker();
+	private final WindowMetadataCache windowMetadataCache = new WindowMetadataCache(this);
+	// components which are created by the driver only. They are shared
+	private final Map<Class<?>, WebdriverComponent> sharedComponents = 
+			new ConcurrentHashMap<Class<?>, WebdriverComponent>();
 	private final TimeOut timeOut;
 	private final ESupportedDrivers instantiatedESupportedDriver;
 
@@ -59,14 +69,38 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	 */
 	public WebDriverEncapsulation(ESupportedDrivers supporteddriver,
 			Object... values) {
+		this(supporteddriver, Configuration.byDefault, values);
+	}
+
+	/**
+	 * Allows to instantiate the selected {@link WebDriver} by given parameters.
+	 * These parameters should correspond existing {@link WebDriver} constructors
+	 * 
+	 * @param supporteddriver the selected {@link WebDriver} representation
+	 * @param configuration is the {@link Configuration} which is used since the
+	 * {@link WebDriver} is instantiated. It defines the way of listening
+	 * @param values they are used to launch {@link WebDriver}
+	 * 
+	 * @see WebDriverSettings#getAspectJListening()
+	 */
+	public WebDriverEncapsulation(ESupportedDrivers supporteddriver,
+			Configuration configuration, Object... values) {
 		try {
+			this.configuration = configuration;
 			Class<? extends WebDriver> driverClass = supporteddriver.getUsingWebDriverClass();
 			
-			AbstractApplicationContext context = new AnnotationConfigApplicationContext(
-					WebDriverBeanConfiguration.class);
-			enclosedDriver = (RemoteWebDriver) context.getBean(
-					WebDriverBeanConfiguration.WEBDRIVER_BEAN, context, this,
-					destroyableObjects, driverClass, values);
+			WebDriverSession session = new WebDriverSession(this,
+					destroyableObjects, focusTracker, windowMetadataCache);
+			if (configuration.getSection(WebDriverSettings.class)
+					.getAspectJListening())
+				enclosedDriver = SharedBeanContexts.getBean(
+						WebDriverBeanConfiguration.class, session,
+						WebDriverBeanConfiguration.WEBDRIVER_BEAN, session,
+						driverClass, values);
+			else
+				enclosedDriver = (RemoteWebDriver) WebDriverBeanConfiguration
+						.getCompiledListenableWebdriver(session, driverClass,
+								values);
 			Log.message("Getting started with " + driverClass.getSimpleName());
 			timeOut = getComponent(TimeOut.class);
 			resetAccordingTo(configuration);
@@ -89,6 +123,7 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	public void destroy() {
 		if (enclosedDriver == null)
 			return;
+		sharedComponents.clear();
 		try {
 			enclosedDriver.quit();
 		} catch (WebDriverException e) { // it may be already dead
@@ -105,14 +140,22 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	}
 
 	/**
+	 * Components which are created by the driver only are stateless.
+	 * So the instance is created once per {@link WebDriverEncapsulation}
+	 * and it is shared.
+	 * 
 	 * @param required {@link WebdriverComponent} subclass
 	 * @return The instance of required {@link WebdriverComponent} subclass
 	 */
+	@SuppressWarnings("unchecked")
 	public <T extends WebdriverComponent> T getComponent(Class<T> required) {
-		return ComponentFactory.getComponent(required, enclosedDriver);
+		return (T) sharedComponents.computeIfAbsent(required,
+				clazz -> ComponentFactory.getComponent(required, enclosedDriver));
 	}
 
 	/**
+	 * Components which are created by this method are not shared.
+	 * A new instance is returned each time (e.g. {@link AlertHandler})
 	 * 
 	 * @param required {@link WebdriverComponent} subclass
 	 * 
@@ -166,7 +209,23 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		return timeOut;
 	}
 	
+	/**
+	 * @return {@link FocusTracker} which remembers the focused 
+	 * window/context and frames
+	 */
+	public FocusTracker getFocusTracker(){
+		return focusTracker;
+	}
+	
+	/**
+	 * @return {@link WindowMetadataCache} which keeps titles 
+	 * and URLs of known browser windows
+	 */
+	public WindowMetadataCache getWindowMetadataCache(){
+		return windowMetadataCache;
+	}
+	
 	public ESupportedDrivers getInstantiatedSupportedDriver(){
 		return instantiatedESupportedDriver;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
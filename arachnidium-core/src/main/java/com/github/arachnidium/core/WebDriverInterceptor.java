@@ -5,10 +5,17 @@ import java.lang.reflect.Method;
 import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.WebDriver;
 import net.sf.cglib.proxy.MethodProxy;
-import com.github.arachnidium.util.inheritance.MethodInheritanceUtil;
+import com.github.arachnidium.util.inheritance.MethodClassification;
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
+import com.github.arachnidium.util.proxy.DispatchTable;
 
 class WebDriverInterceptor extends DefaultInterceptor {
+	private final static MethodClassification classification = new MethodClassification(
+			Object.class, HasCapabilities.class);
+	private final static int OBJECT_METHOD = classification
+			.getFlag(Object.class);
+	private final static int CAPABILITIES_METHOD = classification
+			.getFlag(HasCapabilities.class);
 
 	private final Handle handle;
 
@@ -20,16 +27,16 @@ class WebDriverInterceptor extends DefaultInterceptor {
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
 
-		if (MethodInheritanceUtil.isOverriddenFrom(method, Object.class))
+		int flags = classification.getFlags(method);
+		if ((flags & OBJECT_METHOD) != 0)
 			return proxy.invokeSuper(obj, args);
 
 		WebDriver d = handle.driverEncapsulation.getWrappedDriver();
-		if (MethodInheritanceUtil.isOverriddenFrom(method,
-				HasCapabilities.class))
-			return method.invoke(d, args);
+		if ((flags & CAPABILITIES_METHOD) != 0)
+			return DispatchTable.invoke(d, method, args);
 
 		handle.switchToMe();
-		return method.invoke(d, args);
+		return DispatchTable.invoke(d, method, args);
 	}
 
 }
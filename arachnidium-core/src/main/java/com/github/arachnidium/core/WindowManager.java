@@ -10,9 +10,9 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import com.github.arachnidium.core.bean.BeanWindowConfiguration;
 import com.github.arachnidium.core.fluenthandle.FluentPageWaiting;
+import com.github.arachnidium.core.fluenthandle.HandleMatchingPlan;
 import com.github.arachnidium.core.settings.WindowIsClosedTimeOut;
 
 public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
@@ -20,8 +20,7 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 	private static long TIME_OUT_TO_SWITCH_ON = 2; //two seconds
 	
 	public WindowManager(WebDriverEncapsulation initialDriverEncapsulation) {
-		super(initialDriverEncapsulation, 
-				new AnnotationConfigApplicationContext(BeanWindowConfiguration.class));
+		super(initialDriverEncapsulation, BeanWindowConfiguration.class);
 	}
 
 	/**
@@ -71,6 +70,8 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 			driver.switchTo().window(handle).close();
 		} catch (UnhandledAlertException | NoSuchWindowException e) {
 			throw e;
+		} finally {
+			getHandleLiveness().invalidate();
 		}
 
 		try {
@@ -113,7 +114,8 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 		HowToGetPage clone = howToGet.cloneThis();
 		try {
 			return awaiting.awaitCondition(timeOut,
-					clone.getExpectedCondition(new FluentPageWaiting()));
+					clone.getExpectedCondition(new FluentPageWaiting(
+							getWebDriverEncapsulation().getWindowMetadataCache())));
 		} catch (TimeoutException e) {
 			throw new NoSuchWindowException("Can't find window! Condition is "
 					+ clone.toString(), e);
@@ -155,14 +157,39 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 
 
 	@Override
-	BrowserWindow getRealHandle(long timeOut,
-			HowToGetPage howToGet, By by, 
+	String getNewStringHandle(long timeOut, HowToGetPage howToGet,
+			Set<String> knownHandles) throws NoSuchWindowException {
+		HandleMatchingPlan plan = HandleMatchingPlan.anyHandle();
+		if (howToGet != null)
+			plan = howToGet.compile();
+		try {
+			return awaiting.awaitCondition(timeOut, new FluentPageWaiting(
+					getWebDriverEncapsulation().getWindowMetadataCache())
+					.getNewHandle(plan, knownHandles));
+		} catch (TimeoutException e) {
+			String condition = "any new window";
+			if (howToGet != null)
+				condition = howToGet.toString();
+			throw new NoSuchWindowException("Can't find new window! Condition is "
+					+ condition, e);
+		}
+	}
+
+	@Override
+	BrowserWindow createRealHandle(String handle, By by,
 			HowToGetByFrames howToGetByFramesStrategy) {
-		String handle = this.getStringHandle(timeOut,
-				howToGet);			
 		BrowserWindow window = new BrowserWindow(handle, 
 				this, by, howToGetByFramesStrategy);
 		return returnNewCreatedListenableHandle(window,
 				BeanWindowConfiguration.WINDOW_BEAN);
 	}
-}
\ No newline at end of file
+
+	@Override
+	BrowserWindow getRealHandle(long timeOut,
+			HowToGetPage howToGet, By by, 
+			HowToGetByFrames howToGetByFramesStrategy) {
+		String handle = this.getStringHandle(timeOut,
+				howToGet);			
+		return createRealHandle(handle, by, howToGetByFramesStrategy);
+	}
+}
\ No newline at end of file
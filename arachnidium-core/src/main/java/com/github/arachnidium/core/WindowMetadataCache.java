@@ -0,0 +1,120 @@
+package com.github.arachnidium.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
+
+/**
+ * Keeps titles and URLs of browser windows which have been inspected
+ * already. There is one instance per {@link WebDriverEncapsulation}.
+ * So there is no need to switch to each known window and to
+ * read its title/URL again when some window is looked for.<br/>
+ * <br/>
+ * A value is forgotten when:<br/>
+ * - the window performs navigation, click, submit, key sending or script
+ * execution (see {@link #invalidate(String)})<br/>
+ * - it is older than the "windowMetadataMaxAge" setting. Page title can be
+ * changed by scripts at any moment, so values are not trusted forever.
+ *
+ * @see HandleWaitingTimeOut
+ */
+public final class WindowMetadataCache {
+	// milliseconds. It is used when there is no "windowMetadataMaxAge" setting
+	final static long defaultMaxAge = 2000;
+
+	private static class Metadata {
+		private String title;
+		private long titleReceivedAt;
+		private String url;
+		private long urlReceivedAt;
+	}
+
+	private final IConfigurationWrapper configurationWrapper;
+	private final Map<String, Metadata> metadataMap = new HashMap<String, Metadata>();
+
+	WindowMetadataCache(IConfigurationWrapper configurationWrapper) {
+		this.configurationWrapper = configurationWrapper;
+	}
+
+	private long getMaxAge() {
+		Long maxAge = configurationWrapper.getWrappedConfiguration()
+				.getSection(HandleWaitingTimeOut.class)
+				.getWindowMetadataMaxAge();
+		if (maxAge == null)
+			return defaultMaxAge;
+		return maxAge;
+	}
+
+	private boolean isFresh(long receivedAt) {
+		return System.currentTimeMillis() - receivedAt <= getMaxAge();
+	}
+
+	private Metadata getMetadata(String handle) {
+		Metadata metadata = metadataMap.get(handle);
+		if (metadata == null) {
+			metadata = new Metadata();
+			metadataMap.put(handle, metadata);
+		}
+		return metadata;
+	}
+
+	/**
+	 * @param handle is a window handle
+	 * @return known title or <code>null</code> if it is unknown or stale
+	 */
+	public synchronized String getTitle(String handle) {
+		Metadata metadata = metadataMap.get(handle);
+		if (metadata == null || metadata.title == null
+				|| !isFresh(metadata.titleReceivedAt))
+			return null;
+		return metadata.title;
+	}
+
+	/**
+	 * @param handle is a window handle
+	 * @return known URL or <code>null</code> if it is unknown or stale
+	 */
+	public synchronized String getCurrentUrl(String handle) {
+		Metadata metadata = metadataMap.get(handle);
+		if (metadata == null || metadata.url == null
+				|| !isFresh(metadata.urlReceivedAt))
+			return null;
+		return metadata.url;
+	}
+
+	/**
+	 * @param handle is a window handle
+	 * @param title is the title which has been received just now
+	 */
+	public synchronized void putTitle(String handle, String title) {
+		Metadata metadata = getMetadata(handle);
+		metadata.title = title;
+		metadata.titleReceivedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * @param handle is a window handle
+	 * @param url is the URL which has been received just now
+	 */
+	public synchronized void putCurrentUrl(String handle, String url) {
+		Metadata metadata = getMetadata(handle);
+		metadata.url = url;
+		metadata.urlReceivedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * Forgets title and URL of the given window.
+	 *
+	 * @param handle is a window handle. If it is <code>null</code> (the
+	 * active window is unknown) then everything is forgotten
+	 */
+	public synchronized void invalidate(String handle) {
+		if (handle == null) {
+			metadataMap.clear();
+			return;
+		}
+		metadataMap.remove(handle);
+	}
+}
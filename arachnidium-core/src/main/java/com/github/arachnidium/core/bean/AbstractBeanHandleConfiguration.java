@@ -5,12 +5,19 @@ import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrappe
 
 abstract class AbstractBeanHandleConfiguration {
 	
-	protected IConfigurationWrapper configurationWrapper;
-	
 	public <T extends IHasHandle> T getHandle(T handle, IConfigurationWrapper configurationWrapper){
-		this.configurationWrapper = configurationWrapper;
 		return handle;
 	}
 	
+	/**
+	 * @return the configuration of the session whose 
+	 * handle is being made listenable now
+	 * 
+	 * @see SharedBeanContexts
+	 */
+	protected IConfigurationWrapper getConfigurationWrapper() {
+		return SharedBeanContexts.getSession();
+	}
+	
 	abstract <T extends AbstractAspect> T getHandleAspect();
 }
@@ -10,17 +10,12 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.openqa.selenium.Alert;
-import org.openqa.selenium.By;
 import org.openqa.selenium.ContextAware;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Navigation;
 import org.openqa.selenium.WebDriver.Options;
 import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
-import org.springframework.context.support.AbstractApplicationContext;
-
-import com.github.arachnidium.core.interfaces.IDestroyable;
-import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 
 @Aspect
 class AspectWebDriver extends AbstractAspect {
@@ -38,10 +33,7 @@ class AspectWebDriver extends AbstractAspect {
 		}
 	};
 
-	private final IDestroyable destroyable;
-	private final AbstractApplicationContext context;
-	private final WebDriver driver;
-	private final DefaultWebDriverEventListener defaultWebDriverEventListener;
+	private final WebDriverListening listening;
 	
 	private final String POINTCUT_VALUE = "execution(* org.openqa.selenium.WebDriver.*(..)) || "
 			+ "execution(* org.openqa.selenium.WebElement.*(..)) ||"
@@ -61,18 +53,13 @@ class AspectWebDriver extends AbstractAspect {
 	
 
 
-	public AspectWebDriver(
-			final WebDriver driver,
-			IConfigurationWrapper configurationWrapper,
-			IDestroyable destroyable, AbstractApplicationContext context) {
-		super(configurationWrapper);
-		this.driver = driver;
-		this.context = context;
-		this.destroyable = destroyable;
-		this.defaultWebDriverEventListener = new DefaultWebDriverEventListener(configurationWrapper);
+	public AspectWebDriver(WebDriverSession session) {
+		super(session.configurationWrapper);
+		this.listening = new WebDriverListening(session);
 	}
 
-	private static Class<?> getClassForProxy(Class<?> classOfObject) {
+	// the compiled listening (see ListeningInterceptor) makes the same objects listenable
+	static Class<?> getClassForProxy(Class<?> classOfObject) {
 		for (Class<?> c : listenable) {
 			if (!c.isAssignableFrom(classOfObject)) {
 				continue;
@@ -95,8 +82,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.WebDriver.Navigation.to(..))")
 	public void beforeNavigateTo(JoinPoint joinPoint) throws Throwable{
 		try {
-			String url = String.valueOf(joinPoint.getArgs()[0]);
-			defaultWebDriverEventListener.beforeNavigateTo(url, driver);
+			listening.beforeNavigateTo(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -106,8 +92,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.WebDriver.Navigation.to(..))")
 	public void afterNavigateTo(JoinPoint joinPoint)  throws Throwable{
 		try {
-			String url = String.valueOf(joinPoint.getArgs()[0]);
-			defaultWebDriverEventListener.afterNavigateTo(url, driver);
+			listening.afterNavigateTo(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -116,7 +101,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.WebDriver.Navigation.back(..))")
 	public void beforeNavigateBack(JoinPoint joinPoint) throws Throwable{
 		try {
-			defaultWebDriverEventListener.beforeNavigateBack(driver);
+			listening.beforeNavigateBack(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -125,7 +110,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.WebDriver.Navigation.back(..))")
 	public void afterNavigateBack(JoinPoint joinPoint) throws Throwable{
 		try {
-			defaultWebDriverEventListener.afterNavigateBack(driver);
+			listening.afterNavigateBack(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -134,7 +119,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.WebDriver.Navigation.forward(..))")
 	public void beforeNavigateForward(JoinPoint joinPoint)  throws Throwable{
 		try {
-			defaultWebDriverEventListener.beforeNavigateForward(driver);
+			listening.beforeNavigateForward(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -143,7 +128,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.WebDriver.Navigation.forward(..))")
 	public void afterNavigateForward(JoinPoint joinPoint) throws Throwable{
 		try {
-			defaultWebDriverEventListener.afterNavigateForward(driver);
+			listening.afterNavigateForward(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -153,12 +138,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.SearchContext.findElements(..))")
 	public void beforeFindBy(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			By by = (By) joinPoint.getArgs()[0];
-			if (!WebElement.class.isAssignableFrom(target.getClass()))
-				defaultWebDriverEventListener.beforeFindBy(by, null, driver);
-			else
-				defaultWebDriverEventListener.beforeFindBy(by, (WebElement) target, driver);
+			listening.beforeFindBy(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}	
@@ -168,12 +148,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.SearchContext.findElements(..))")
 	public void afterFindBy(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			By by = (By) joinPoint.getArgs()[0];
-			if (!WebElement.class.isAssignableFrom(target.getClass()))
-				defaultWebDriverEventListener.afterFindBy(by, null, driver);
-			else
-				defaultWebDriverEventListener.afterFindBy(by, (WebElement) target, driver);
+			listening.afterFindBy(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}	
@@ -182,8 +157,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.WebElement.click(..))")
 	public void beforeClickOn(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.beforeClickOn((WebElement) target, driver);
+			listening.beforeClickOn(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}	
@@ -192,8 +166,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.WebElement.click(..))")
 	public void afterClickOn(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.afterClickOn((WebElement) target, driver);
+			listening.afterClickOn(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -203,8 +176,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.WebElement.clear(..))")
 	public void beforeChangeValueOf(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.beforeChangeValueOf((WebElement) target, driver);
+			listening.beforeChangeValueOf(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -214,8 +186,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.WebElement.clear(..))")
 	public void afterChangeValueOf(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.afterChangeValueOf((WebElement) target, driver);
+			listening.afterChangeValueOf(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -225,8 +196,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.JavascriptExecutor.executeAsyncScript(..))")
 	public void beforeScript(JoinPoint joinPoint) throws Throwable{
 		try {
-			String script = String.valueOf(joinPoint.getArgs()[0]);
-			defaultWebDriverEventListener.beforeScript(script, driver);
+			listening.beforeScript(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -236,8 +206,7 @@ class AspectWebDriver extends AbstractAspect {
 			+ "execution(* org.openqa.selenium.JavascriptExecutor.executeAsyncScript(..))")
 	public void afterScript(JoinPoint joinPoint) throws Throwable{
 		try {
-			String script = String.valueOf(joinPoint.getArgs()[0]);
-			defaultWebDriverEventListener.afterScript(script, driver);
+			listening.afterScript(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -246,8 +215,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.Alert.accept(..))")
 	public void afterAlertAccept(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.afterAlertAccept(driver, (Alert) target); 
+			listening.afterAlertAccept(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -256,8 +224,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.Alert.dismiss(..))")
 	public void afterAlertDismiss(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.afterAlertDismiss(driver, (Alert) target); 
+			listening.afterAlertDismiss(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -266,9 +233,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.Alert.sendKeys(..))")
 	public void afterAlertSendKeys(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			String keys = String.valueOf(joinPoint.getArgs()[0]);
-			defaultWebDriverEventListener.afterAlertSendKeys(driver, (Alert) target, keys);
+			listening.afterAlertSendKeys(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -277,8 +242,7 @@ class AspectWebDriver extends AbstractAspect {
 	@After("execution(* org.openqa.selenium.WebElement.submit(..))")
 	public void afterSubmit(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.afterSubmit(driver, (WebElement) target);
+			listening.afterSubmit(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -287,8 +251,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.Alert.accept(..))")
 	public void beforeAlertAccept(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.beforeAlertAccept(driver, (Alert) target); 
+			listening.beforeAlertAccept(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -297,8 +260,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.Alert.dismiss(..))")
 	public void beforeAlertDismiss(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.beforeAlertDismiss(driver, (Alert) target);
+			listening.beforeAlertDismiss(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -307,9 +269,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.Alert.sendKeys(..))")
 	public void beforeAlertSendKeys(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			String keys = String.valueOf(joinPoint.getArgs()[0]);
-			defaultWebDriverEventListener.beforeAlertSendKeys(driver, (Alert) target, keys);
+			listening.beforeAlertSendKeys(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -318,8 +278,81 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.WebElement.submit(..))")
 	public void beforeSubmit(JoinPoint joinPoint) throws Throwable{
 		try {
-			Object target =  joinPoint.getTarget();
-			defaultWebDriverEventListener.beforeSubmit(driver, (WebElement) target);
+			listening.beforeSubmit(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	@After("execution(* org.openqa.selenium.WebDriver.TargetLocator.window(..))")
+	public void afterWindowSwitching(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterWindowSwitching(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	@After("execution(* org.openqa.selenium.WebDriver.TargetLocator.frame(..)) || "
+			+ "execution(* org.openqa.selenium.WebDriver.TargetLocator.parentFrame(..))")
+	public void afterFrameSwitching(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterFrameSwitching(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	@After("execution(* org.openqa.selenium.WebDriver.TargetLocator.defaultContent(..))")
+	public void afterDefaultContentSwitching(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterDefaultContentSwitching(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	@After("execution(* org.openqa.selenium.ContextAware.context(..))")
+	public void afterContextSwitching(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterContextSwitching(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	//the top level document is focused after navigation
+	@After("execution(* org.openqa.selenium.WebDriver.get(..)) || "
+			+ "execution(* org.openqa.selenium.WebDriver.Navigation.*(..))")
+	public void afterNavigation(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterNavigation(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	//title, URL and the document of the active window may be changed by these actions
+	@After("execution(* org.openqa.selenium.WebDriver.get(..)) || "
+			+ "execution(* org.openqa.selenium.WebDriver.Navigation.*(..)) || "
+			+ "execution(* org.openqa.selenium.WebElement.click(..)) || "
+			+ "execution(* org.openqa.selenium.WebElement.submit(..)) || "
+			+ "execution(* org.openqa.selenium.WebElement.sendKeys(..)) || "
+			+ "execution(* org.openqa.selenium.JavascriptExecutor.executeScript(..)) || "
+			+ "execution(* org.openqa.selenium.JavascriptExecutor.executeAsyncScript(..)) || "
+			+ "execution(* org.openqa.selenium.Alert.accept(..))")
+	public void afterPossibleWindowChanging(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterPossibleWindowChanging(joinPoint.getTarget(), joinPoint.getArgs());
+		}catch(Throwable t){
+			throw getRootCause(t);
+		}
+	}
+
+	@After("execution(* org.openqa.selenium.WebDriver.close(..))")
+	public void afterClose(JoinPoint joinPoint) throws Throwable{
+		try {
+			listening.afterClose(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
@@ -331,27 +364,17 @@ class AspectWebDriver extends AbstractAspect {
 		}
 		Object o = getListenable(result);
 		if (o != null) { // ...so listenable object will be returned! ha-ha-ha
-			result = context.getBean(WebDriverBeanConfiguration.COMPONENT_BEAN, o);
+			result = listening.session.listenableElements.getListenable(o,
+					component -> SharedBeanContexts.getBean(
+							WebDriverBeanConfiguration.class, listening.session,
+							WebDriverBeanConfiguration.COMPONENT_BEAN, component));
 		}
 		return result;
 	}
 
-	// List of WebElement
+	// List of WebElement. They are made listenable on demand
 	private List<Object> returnProxyList(List<Object> originalList) {
-		try {
-			List<Object> proxyList = new ArrayList<>();
-			for (Object o : originalList) {
-				if (getClassForProxy(o.getClass()) == null) {
-					proxyList.add(o);
-				}
-				proxyList.add(context.getBean(
-						WebDriverBeanConfiguration.COMPONENT_BEAN, o));
-			}
-			return proxyList;
-		} catch (Exception e) {
-			throw new RuntimeException(e);
-		}
-
+		return new LazyListenableList(originalList, this::transformToListenable);
 	}
 
 	/**
@@ -369,9 +392,7 @@ class AspectWebDriver extends AbstractAspect {
 			t = e;
 		}
 		if (t != null) {
-			Throwable rootCause = getRootCause(t);
-			defaultWebDriverEventListener.onException(rootCause, driver);
-			throw rootCause;
+			throw listening.onException(t);
 		}
 
 		if (result == null) { // maybe it was "void"
@@ -386,8 +407,7 @@ class AspectWebDriver extends AbstractAspect {
 	@Before("execution(* org.openqa.selenium.WebDriver.quit(..))")
 	public void beforeQuit(JoinPoint joinPoint) throws Throwable{
 		try {
-			destroyable.destroy();
-			defaultWebDriverEventListener.beforeQuit(driver);
+			listening.beforeQuit(joinPoint.getTarget(), joinPoint.getArgs());
 		}catch(Throwable t){
 			throw getRootCause(t);
 		}
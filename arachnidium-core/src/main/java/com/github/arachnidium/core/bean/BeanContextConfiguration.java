@@ -33,7 +33,7 @@ public class BeanContextConfiguration extends AbstractBeanHandleConfiguration {
 	@Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 	@Bean(name = "contextAspect")
 	AspectContext getHandleAspect() {
-		return new AspectContext(configurationWrapper);
+		return new AspectContext(getConfigurationWrapper());
 	}
 
 }
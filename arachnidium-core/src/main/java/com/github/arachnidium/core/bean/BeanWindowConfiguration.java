@@ -39,7 +39,7 @@ public class BeanWindowConfiguration extends AbstractBeanHandleConfiguration {
 	@Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 	@Bean(name = "windowAspect")
 	AspectWindow getHandleAspect() {
-		return new AspectWindow(configurationWrapper);
+		return new AspectWindow(getConfigurationWrapper());
 	}
 
 }
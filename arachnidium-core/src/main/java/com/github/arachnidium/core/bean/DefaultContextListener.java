@@ -2,13 +2,6 @@ package com.github.arachnidium.core.bean;
 
 import io.appium.java_client.android.AndroidDriver;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ServiceLoader;
-
 import org.openqa.selenium.ScreenOrientation;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.internal.WrapsDriver;
@@ -22,32 +15,8 @@ import com.github.arachnidium.util.logging.Log;
 
 public class DefaultContextListener extends DefaultHandleListener implements IContextListener {
 	
-	private final List<IContextListener> contextEventListeners = new ArrayList<IContextListener>() {
-		private static final long serialVersionUID = 1L;
-		{ // SPI
-			Iterator<?> providers = ServiceLoader.load(IContextListener.class)
-					.iterator();
-			while (providers.hasNext())
-				add((IContextListener) providers.next());
-		}
-	};
-	private final InvocationHandler contextListenerInvocationHandler = (proxy,
-			method, args) -> {
-		contextEventListeners.forEach((eventListener) -> {
-			try {
-				method.invoke(eventListener, args);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-			;
-		});
-		return null;
-	};
-
-	private final IContextListener contextListenerProxy = (IContextListener) Proxy
-			.newProxyInstance(IContextListener.class.getClassLoader(),
-					new Class[] { IContextListener.class },
-					contextListenerInvocationHandler);	
+	private final ListenerDispatcher dispatcher = new ListenerDispatcher(
+			IContextListener.class);
 	
 	public DefaultContextListener(IConfigurationWrapper configurationWrapper) {
 		super(configurationWrapper);
@@ -56,14 +25,14 @@ public class DefaultContextListener extends DefaultHandleListener implements ICo
 	@Override
 	public void beforeIsSwitchedOn(IHasHandle handle) {
 		Log.debug("Attempt to switch to context " + handle.getHandle());
-		contextListenerProxy.beforeIsSwitchedOn(handle);
+		dispatcher.fire(IContextListener.class, listener -> listener.beforeIsSwitchedOn(handle));
 	}
 
 	@Override
 	public void whenIsSwitchedOn(IHasHandle handle) {
 		Log.message("Current context is " + handle.getHandle()
 				+ getActivityDescription(handle));
-		contextListenerProxy.whenIsSwitchedOn(handle);
+		dispatcher.fire(IContextListener.class, listener -> listener.whenIsSwitchedOn(handle));
 	}
 
 	@Override
@@ -77,7 +46,7 @@ public class DefaultContextListener extends DefaultHandleListener implements ICo
 		} else {
 			Log.message(message);
 		}
-		contextListenerProxy.whenNewHandleIsAppeared(handle);
+		dispatcher.fire(IContextListener.class, listener -> listener.whenNewHandleIsAppeared(handle));
 	}
 
 	@Override
@@ -85,7 +54,7 @@ public class DefaultContextListener extends DefaultHandleListener implements ICo
 		Log.debug("Attempt to rotate screen. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
-		contextListenerProxy.beforeIsRotated(handle, orientation);
+		dispatcher.fire(IContextListener.class, listener -> listener.beforeIsRotated(handle, orientation));
 	}
 
 	@Override
@@ -93,7 +62,7 @@ public class DefaultContextListener extends DefaultHandleListener implements ICo
 		Log.debug("Screen was rotated. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
-		contextListenerProxy.whenIsRotated(handle, orientation);
+		dispatcher.fire(IContextListener.class, listener -> listener.whenIsRotated(handle, orientation));
 	}
 	
 	private String getActivityDescription(IHasHandle handle) {
@@ -1,36 +1,38 @@
 package com.github.arachnidium.core.bean;
 
-import java.lang.reflect.Proxy;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ServiceLoader;
+import java.util.logging.Level;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.events.WebDriverEventListener;
 
 import com.github.arachnidium.core.eventlisteners.IWebDriverEventListener;
 import com.github.arachnidium.core.highlighting.IWebElementHighlighter;
 import com.github.arachnidium.core.highlighting.WebElementHighLighter;
+import com.github.arachnidium.core.settings.ElementDescription;
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
+import com.github.arachnidium.util.logging.eAvailableLevels;
 
 public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 	
 	final IConfigurationWrapper configurationWrapper;
 	
 	private static enum HowToHighLightElement {
-		INFO {
+		INFO(eAvailableLevels.INFO) {
 			@Override
 			void highLight(IWebElementHighlighter highlighter,
 					WebDriver driver, WebElement element, String message) {
 				highlighter.highlightAsInfo(driver, element, message);
 			}
 		},
-		DEBUG {
+		DEBUG(eAvailableLevels.FINE) {
 			@Override
 			void highLight(IWebElementHighlighter highlighter,
 					WebDriver driver, WebElement element, String message) {
@@ -38,60 +40,38 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 			}
 		};
 
+		private final eAvailableLevels level;
+
+		private HowToHighLightElement(eAvailableLevels level) {
+			this.level = level;
+		}
+
 		void highLight(IWebElementHighlighter highlighter, WebDriver driver,
 				WebElement element, String message) {
 			// does nothing
 		}
+
+		// the same check as Photographer performs
+		boolean isLogged() {
+			Level current = Log.getLevel();
+			return current == null
+					|| level.getLevel().intValue() >= current.intValue();
+		}
 	}
 	
-	private final List<WebDriverEventListener> additionalListeners = new ArrayList<WebDriverEventListener>() {
-		private static final long serialVersionUID = 1L;
-		{
-			// it is filled by SPI			
-			Iterator<WebDriverEventListener> providers = ServiceLoader.load(
-					WebDriverEventListener.class).iterator();
-			while (providers.hasNext())
-				add((WebDriverEventListener) providers.next());
-			
-			Iterator<IWebDriverEventListener> extendedProviders = ServiceLoader.load(
-					IWebDriverEventListener.class).iterator();
-			while (extendedProviders.hasNext())
-				add((IWebDriverEventListener) extendedProviders.next());
-		}
-	};	
+	// it returns tag, id, name and text by one remote call
+	private static final String DESCRIPTION_SCRIPT = "var e = arguments[0];"
+			+ "return [String(e.tagName).toLowerCase(), e.getAttribute('id'), "
+			+ "e.getAttribute('name'), String(e.innerText || e.textContent || '').trim()];";
+	
+	private final ListenerDispatcher dispatcher = new ListenerDispatcher(
+			WebDriverEventListener.class, IWebDriverEventListener.class);
 	
 	private final WebElementHighLighter highLighter = new WebElementHighLighter();
 	
-	private final IWebDriverEventListener proxyExtendedListener = (IWebDriverEventListener) Proxy
-			.newProxyInstance(IWebDriverEventListener.class.getClassLoader(),
-					new Class[] { IWebDriverEventListener.class }, (proxy,
-							method, args) -> {
-						additionalListeners.forEach((eventListener) -> {
-							try {
-								if (eventListener instanceof IWebDriverEventListener)
-									method.invoke(eventListener, args);
-							} catch (Exception e) {
-								throw new RuntimeException(e);
-							}
-
-						});
-						return null;
-					});
-
-	private final WebDriverEventListener proxyListener = (IWebDriverEventListener) Proxy
-			.newProxyInstance(IWebDriverEventListener.class.getClassLoader(),
-					new Class[] { IWebDriverEventListener.class }, (proxy,
-							method, args) -> {
-						additionalListeners.forEach((eventListener) -> {
-							try {
-								method.invoke(eventListener, args);
-							} catch (Exception e) {
-								throw new RuntimeException(e);
-							}
-
-						});
-						return null;
-					});
+	// the description is kept from "before" till "after" of the action
+	private String describedElementId;
+	private String cachedDescription;
 	
 	public DefaultWebDriverEventListener( 
 			IConfigurationWrapper configurationWrapper){
@@ -102,39 +82,39 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 	public void beforeNavigateTo(String url, WebDriver driver) {
 		Log.message("Attempt to navigate to another url. Required url is "
 				+ url);
-		proxyListener.beforeNavigateTo(url, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeNavigateTo(url, driver));
 	}
 
 	@Override
 	public void afterNavigateTo(String url, WebDriver driver) {
 		Log.message("Current URL is " + driver.getCurrentUrl());
-		proxyListener.afterNavigateTo(url, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterNavigateTo(url, driver));
 	}
 
 	@Override
 	public void beforeNavigateBack(WebDriver driver) {
 		Log.message("Attempt to navigate to previous url. Current url is "
 				+ driver.getCurrentUrl());
-		proxyListener.beforeNavigateBack(driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeNavigateBack(driver));
 	}
 
 	@Override
 	public void afterNavigateBack(WebDriver driver) {
 		Log.message("Current URL is  " + driver.getCurrentUrl());
-		proxyListener.afterNavigateBack(driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterNavigateBack(driver));
 	}
 
 	@Override
 	public void beforeNavigateForward(WebDriver driver) {
 		Log.message("Attempt to navigate to next url. Current url is "
 				+ driver.getCurrentUrl());
-		proxyListener.beforeNavigateForward(driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeNavigateForward(driver));
 	}
 
 	@Override
 	public void afterNavigateForward(WebDriver driver) {
 		Log.message("Current URL is  " + driver.getCurrentUrl());
-		proxyListener.afterNavigateForward(driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterNavigateForward(driver));
 	}
 
 	@Override
@@ -145,7 +125,7 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 			highlightElementAndLogAction(driver, element, "Using root element",
 					HowToHighLightElement.DEBUG);
 		}
-		proxyListener.beforeFindBy(by, element, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeFindBy(by, element, driver));
 	}
 
 	@Override
@@ -156,7 +136,8 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 			highlightElementAndLogAction(driver, element, "Root element was used",
 					HowToHighLightElement.DEBUG);
 		}
-		proxyListener.afterFindBy(by, element, driver);
+		forgetElementDescription();
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterFindBy(by, element, driver));
 
 	}
 
@@ -165,14 +146,15 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 		highlightElementAndLogAction(driver, element,
 				"State before element will be clicked on.",
 				HowToHighLightElement.INFO);
-		proxyListener.beforeClickOn(element, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeClickOn(element, driver));
 
 	}
 
 	@Override
 	public void afterClickOn(WebElement element, WebDriver driver) {
 		Log.message("Click on element has been successfully performed!");
-		proxyListener.afterClickOn(element, driver);
+		forgetElementDescription();
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterClickOn(element, driver));
 	}
 
 	@Override
@@ -180,7 +162,7 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 		highlightElementAndLogAction(driver, element,
 				"State before element value will be changed.",
 				HowToHighLightElement.INFO);
-		proxyListener.beforeChangeValueOf(element, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeChangeValueOf(element, driver));
 
 	}
 
@@ -189,70 +171,72 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 		highlightElementAndLogAction(driver, element,
 				"State after element value was changed.",
 				HowToHighLightElement.INFO);
-		proxyListener.afterChangeValueOf(element, driver);
+		forgetElementDescription();
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterChangeValueOf(element, driver));
 
 	}
 
 	@Override
 	public void beforeScript(String script, WebDriver driver) {
-		proxyListener.beforeScript(script, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.beforeScript(script, driver));
 
 	}
 
 	@Override
 	public void afterScript(String script, WebDriver driver) {
-		proxyListener.afterScript(script, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.afterScript(script, driver));
 	}
 
 	@Override
 	public void onException(Throwable throwable, WebDriver driver) {
 		Log.debug("An exception has been caught out."
 				+ throwable.getClass().getName() + ":" + throwable.getMessage());
-		proxyListener.onException(throwable, driver);
+		dispatcher.fire(WebDriverEventListener.class, listener -> listener.onException(throwable, driver));
 
 	}
 
 	@Override
 	public void afterAlertAccept(WebDriver driver, Alert alert) {
 		Log.message("Alert has been accepted");
-		proxyExtendedListener.afterAlertAccept(driver, alert);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.afterAlertAccept(driver, alert));
 
 	}
 
 	@Override
 	public void afterAlertDismiss(WebDriver driver, Alert alert) {
 		Log.message("Alert has been dismissed");
-		proxyExtendedListener.afterAlertDismiss(driver, alert);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.afterAlertDismiss(driver, alert));
 	}
 
 	@Override
 	public void afterAlertSendKeys(WebDriver driver, Alert alert, String keys) {
 		Log.message("String " + keys + " has been sent to alert");
-		proxyExtendedListener.afterAlertSendKeys(driver, alert, keys);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.afterAlertSendKeys(driver, alert, keys));
 	}
 
 	@Override
 	public void afterSubmit(WebDriver driver, WebElement element) {
 		Log.message("Submit has been performed successfully");
-		proxyExtendedListener.afterSubmit(driver, element);
+		forgetElementDescription();
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.afterSubmit(driver, element));
 	}
 
 	@Override
 	public void beforeAlertAccept(WebDriver driver, Alert alert) {
 		Log.message("Attempt to accept alert...");
-		proxyExtendedListener.beforeAlertAccept(driver, alert);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.beforeAlertAccept(driver, alert));
 	}
 
 	@Override
 	public void beforeAlertDismiss(WebDriver driver, Alert alert) {
 		Log.message("Attempt to dismiss the alert...");
-		proxyExtendedListener.beforeAlertDismiss(driver, alert);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.beforeAlertDismiss(driver, alert));
 	}
 
 	@Override
 	public void beforeAlertSendKeys(WebDriver driver, Alert alert, String keys) {
 		Log.message("Attemt to send string " + keys + " to alert...");
-		proxyExtendedListener.beforeAlertSendKeys(driver, alert, keys);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.beforeAlertSendKeys(driver, alert, keys));
 	}
 
 	@Override
@@ -260,41 +244,96 @@ public class DefaultWebDriverEventListener implements IWebDriverEventListener {
 		highlightElementAndLogAction(driver, element,
 				"State before submit will be performed by element: ",
 				HowToHighLightElement.INFO);
-		proxyExtendedListener.beforeSubmit(driver, element);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.beforeSubmit(driver, element));
 	}
 
 
 	@Override
 	public void beforeQuit(WebDriver driver) {
-		proxyExtendedListener.beforeQuit(driver);
+		dispatcher.fire(IWebDriverEventListener.class, listener -> listener.beforeQuit(driver));
+		// reporting listeners should receive events while the driver is alive
+		ListenerDispatcher.flush();
 	}
 	
 	void highlightElementAndLogAction(WebDriver driver, WebElement element,
 			String logMessage, HowToHighLightElement howToHighLightElement) {
-		String elementDescription = elementDescription(element);
+		String elementDescription = "";
+		if (howToHighLightElement.isLogged()
+				&& configurationWrapper.getWrappedConfiguration()
+						.getSection(ElementDescription.class).getEnabled())
+			elementDescription = elementDescription(driver, element);
 		highLighter.resetAccordingTo(configurationWrapper
 				.getWrappedConfiguration());
 		howToHighLightElement.highLight(highLighter, driver, element,
 				logMessage + elementDescription);
 	}
 	
-	private String elementDescription(WebElement element) {
-		String description = "";
+	private void forgetElementDescription() {
+		describedElementId = null;
+		cachedDescription = null;
+	}
+	
+	private String elementDescription(WebDriver driver, WebElement element) {
 		if (element == null)
-			return description;
+			return "";
+
+		String id = null;
+		if (RemoteWebElement.class.isAssignableFrom(element.getClass()))
+			id = ((RemoteWebElement) element).getId();
+		if (id != null && id.equals(describedElementId))
+			return cachedDescription;
 
+		String description = describeByScript(driver, element);
+		if (description == null)
+			description = describeByRemoteCalls(element);
+		if (!description.equals(""))
+			description = " Element is: " + description;
+
+		if (id != null) {
+			describedElementId = id;
+			cachedDescription = description;
+		}
+		return description;
+	}
+	
+	// returns null if the script can't be executed (e.g. native mobile apps)
+	private String describeByScript(WebDriver driver, WebElement element) {
+		if (!JavascriptExecutor.class.isAssignableFrom(driver.getClass()))
+			return null;
+		try {
+			List<?> values = (List<?>) ((JavascriptExecutor) driver)
+					.executeScript(DESCRIPTION_SCRIPT, element);
+			String description = "";
+			if (!"".equals(String.valueOf(values.get(0))))
+				description += "tag:" + String.valueOf(values.get(0));
+			description = addToDescription("id", values.get(1), description);
+			description = addToDescription("name", values.get(2), description);
+			if (values.get(3) != null && !"".equals(values.get(3)))
+				description += " ('" + String.valueOf(values.get(3)) + "')";
+			return description;
+		} catch (WebDriverException | ClassCastException e) {
+			return null;
+		}
+	}
+	
+	private String describeByRemoteCalls(WebElement element) {
+		String description = "";
 		if (!String.valueOf(element.getTagName()).equals(""))
 			description += "tag:" + String.valueOf(element.getTagName());
 		description = addToDescription(element, "id", description);
 		description = addToDescription(element, "name", description);
 		if (!"".equals(element.getText()))
 			description += " ('" + String.valueOf(element.getText()) + "')";
-		if (!description.equals(""))
-			description = " Element is: " + description;
-
 		return description;
 	}
 	
+	private static String addToDescription(String attribute, Object value,
+			String description) {
+		if (value == null || "".equals(value))
+			return description;
+		return description + " " + attribute + ": " + String.valueOf(value);
+	}
+	
 	private String addToDescription(WebElement element, String attribute,
 			String description) {
 		try {
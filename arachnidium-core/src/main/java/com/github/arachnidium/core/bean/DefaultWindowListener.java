@@ -1,12 +1,5 @@
 package com.github.arachnidium.core.bean;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ServiceLoader;
-
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.TimeoutException;
@@ -21,31 +14,8 @@ import com.github.arachnidium.util.logging.Log;
 
 public class DefaultWindowListener extends DefaultHandleListener implements IWindowListener {
 
-	private final List<IWindowListener> windowEventListeners = new ArrayList<IWindowListener>(){
-		private static final long serialVersionUID = 1L;
-		{   //SPI
-			Iterator<?> providers = ServiceLoader.load(
-					IWindowListener.class).iterator();
-			while (providers.hasNext())
-				add((IWindowListener) providers.next());	
-		}		
-	};
-	private final InvocationHandler windowListenerInvocationHandler = (proxy,
-			method, args) -> {
-		windowEventListeners.forEach((eventListener) -> {
-			try {
-				method.invoke(eventListener, args);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			};
-		});
-		return null;
-	};
-
-	private final IWindowListener windowListenerProxy = (IWindowListener) Proxy
-			.newProxyInstance(IWindowListener.class.getClassLoader(),
-					new Class[] { IWindowListener.class },
-					windowListenerInvocationHandler);	
+	private final ListenerDispatcher dispatcher = new ListenerDispatcher(
+			IWindowListener.class);
 	
 	public DefaultWindowListener(IConfigurationWrapper configurationWrapper) {
 		super(configurationWrapper);
@@ -54,13 +24,13 @@ public class DefaultWindowListener extends DefaultHandleListener implements IWin
 	@Override
 	public void beforeIsSwitchedOn(IHasHandle handle) {
 		Log.debug("Attempt to switch window on by handle " + handle.getHandle());
-		windowListenerProxy.beforeIsSwitchedOn(handle);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.beforeIsSwitchedOn(handle));		
 	}
 
 	@Override
 	public void whenIsSwitchedOn(IHasHandle handle) {
 		postWindowUrl((IExtendedWindow) handle);
-		windowListenerProxy.whenIsSwitchedOn(handle);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenIsSwitchedOn(handle));		
 	}
 
 	@Override
@@ -74,21 +44,21 @@ public class DefaultWindowListener extends DefaultHandleListener implements IWin
 			Log.message("A new window/tab is here");
 			postWindowUrl((IExtendedWindow) handle); 
 		}
-		windowListenerProxy.whenNewHandleIsAppeared(handle);	
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenNewHandleIsAppeared(handle));	
 	}
 
 	@Override
 	public void beforeWindowIsClosed(IExtendedWindow window) {
 		Log.message("Attempt to close window...");
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsClosed(window);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.beforeWindowIsClosed(window));		
 	}
 
 	@Override
 	public void beforeWindowIsMaximized(IExtendedWindow window) {
 		Log.message("Attempt to maximize window");
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsMaximized(window);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.beforeWindowIsMaximized(window));		
 	}
 
 	@Override
@@ -97,14 +67,14 @@ public class DefaultWindowListener extends DefaultHandleListener implements IWin
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsMoved(window, point);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.beforeWindowIsMoved(window, point));		
 	}
 
 	@Override
 	public void beforeWindowIsRefreshed(IExtendedWindow window) {
 		Log.message("Attempt to refresh window");
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsRefreshed(window);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.beforeWindowIsRefreshed(window));		
 	}
 
 	@Override
@@ -114,20 +84,20 @@ public class DefaultWindowListener extends DefaultHandleListener implements IWin
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsResized(window, dimension);
+		dispatcher.fire(IWindowListener.class, listener -> listener.beforeWindowIsResized(window, dimension));
 		
 	}
 
 	@Override
 	public void whenWindowIsClosed(IExtendedWindow window) {
 		Log.message("Not any problem has occurred when window was closed...");
-		windowListenerProxy.whenWindowIsClosed(window);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenWindowIsClosed(window));		
 	}
 
 	@Override
 	public void whenWindowIsMaximized(IExtendedWindow window) {
 		Log.message("Window has been maximized");
-		windowListenerProxy.whenWindowIsMaximized(window);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenWindowIsMaximized(window));		
 	}
 
 	@Override
@@ -136,14 +106,14 @@ public class DefaultWindowListener extends DefaultHandleListener implements IWin
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
-		windowListenerProxy.whenWindowIsMoved(window, point);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenWindowIsMoved(window, point));		
 	}
 
 	@Override
 	public void whenWindowIsRefreshed(IExtendedWindow window) {
 		Log.message("Current window has been refreshed");
 		postWindowUrl(window);
-		windowListenerProxy.whenWindowIsRefreshed(window);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenWindowIsRefreshed(window));		
 	}
 
 	@Override
@@ -152,7 +122,7 @@ public class DefaultWindowListener extends DefaultHandleListener implements IWin
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
-		windowListenerProxy.whenWindowIsResized(window, dimension);		
+		dispatcher.fire(IWindowListener.class, listener -> listener.whenWindowIsResized(window, dimension));		
 	}
 	
 	private void postWindowUrl(IExtendedWindow window) {
@@ -0,0 +1,77 @@
+package com.github.arachnidium.core.bean;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * It is the list of objects which are returned by {@link org.openqa.selenium.WebDriver}
+ * (e.g. found elements). Each object is made listenable when it is
+ * received from the list first time, not when the list is created.
+ */
+final class LazyListenableList extends AbstractList<Object> {
+
+	/**
+	 * An original object which is not made listenable yet
+	 */
+	private static class Pending {
+		private final Object original;
+
+		private Pending(Object original) {
+			this.original = original;
+		}
+	}
+
+	private final List<Object> items;
+	private final Function<Object, Object> toListenable;
+
+	/**
+	 * @param originalList is the list of original objects
+	 * @param toListenable makes an object listenable. It returns the given 
+	 * object if it can't be listened
+	 */
+	LazyListenableList(List<?> originalList,
+			Function<Object, Object> toListenable) {
+		items = new ArrayList<Object>(originalList.size());
+		originalList.forEach(o -> items.add(new Pending(o)));
+		this.toListenable = toListenable;
+	}
+
+	@Override
+	public synchronized Object get(int index) {
+		Object item = items.get(index);
+		if (!(item instanceof Pending))
+			return item;
+		Object original = ((Pending) item).original;
+		Object result = original == null ? null : toListenable.apply(original);
+		items.set(index, result);
+		return result;
+	}
+
+	@Override
+	public synchronized int size() {
+		return items.size();
+	}
+
+	@Override
+	public synchronized Object set(int index, Object element) {
+		Object previous = get(index);
+		items.set(index, element);
+		return previous;
+	}
+
+	@Override
+	public synchronized void add(int index, Object element) {
+		items.add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public synchronized Object remove(int index) {
+		Object previous = get(index);
+		items.remove(index);
+		modCount++;
+		return previous;
+	}
+}
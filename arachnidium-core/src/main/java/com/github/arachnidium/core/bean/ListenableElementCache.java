@@ -0,0 +1,63 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openqa.selenium.remote.RemoteWebElement;
+
+/**
+ * Keeps listenable wrappers of elements of the one {@link WebDriverSession}.
+ * Elements which have the same remote ID share the same wrapper. Wrappers are
+ * weakly referenced so they are collected when nobody uses them.
+ */
+final class ListenableElementCache {
+
+	private static class WrapperReference extends WeakReference<Object> {
+		private final String id;
+
+		private WrapperReference(String id, Object wrapper,
+				ReferenceQueue<Object> queue) {
+			super(wrapper, queue);
+			this.id = id;
+		}
+	}
+
+	private final Map<String, WrapperReference> wrappers = new HashMap<String, WrapperReference>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+	private void expungeCollected() {
+		WrapperReference collected;
+		while ((collected = (WrapperReference) queue.poll()) != null) {
+			// the id may be already mapped to the new wrapper
+			if (wrappers.get(collected.id) == collected)
+				wrappers.remove(collected.id);
+		}
+	}
+
+	/**
+	 * @param component is an original object which should be made listenable
+	 * @param creation creates the listenable wrapper
+	 * @return the cached wrapper if the given object is an element which has
+	 * been wrapped already. Otherwise the new wrapper is created
+	 */
+	synchronized Object getListenable(Object component,
+			Function<Object, Object> creation) {
+		if (!RemoteWebElement.class.isAssignableFrom(component.getClass()))
+			return creation.apply(component);
+		String id = ((RemoteWebElement) component).getId();
+		if (id == null)
+			return creation.apply(component);
+
+		expungeCollected();
+		WrapperReference reference = wrappers.get(id);
+		Object wrapper = reference != null ? reference.get() : null;
+		if (wrapper == null) {
+			wrapper = creation.apply(component);
+			wrappers.put(id, new WrapperReference(id, wrapper, queue));
+		}
+		return wrapper;
+	}
+}
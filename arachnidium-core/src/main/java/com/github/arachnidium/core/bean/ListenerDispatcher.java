@@ -0,0 +1,188 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import com.github.arachnidium.core.eventlisteners.Reporting;
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * Delivers events to listeners which are found by SPI.<br/>
+ * Implementors are found once per SPI interface and class loader. Each 
+ * event is delivered only to listeners which implement the given type. 
+ * Listeners which are marked by {@link Reporting} receive events by the 
+ * separate thread in the order of firing. When the queue of this thread is
+ * full the firing thread waits. Queued events are delivered before the 
+ * driver quits (see {@link #flush()}) and before the JVM exits.
+ */
+final class ListenerDispatcher {
+	private static final int REPORTING_QUEUE_CAPACITY = 1024;
+	private static final long FLUSH_TIMEOUT_SEC = 60;
+
+	// SPI interface -> class loader -> implementors. Implementors are
+	// weakly referenced. Otherwise they would keep the class loader 
+	// which is the weak key
+	private static final ClassValue<Map<ClassLoader, List<WeakReference<Class<?>>>>> providers = 
+			new ClassValue<Map<ClassLoader, List<WeakReference<Class<?>>>>>() {
+		@Override
+		protected Map<ClassLoader, List<WeakReference<Class<?>>>> computeValue(
+				Class<?> spiType) {
+			return Collections.synchronizedMap(
+					new WeakHashMap<ClassLoader, List<WeakReference<Class<?>>>>());
+		}
+	};
+
+	private static volatile Thread reportingThread;
+
+	// when the queue is full the firing thread waits for the free place.
+	// So events are not reordered
+	private static final ThreadPoolExecutor reportingWorker = new ThreadPoolExecutor(
+			1, 1, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<Runnable>(REPORTING_QUEUE_CAPACITY), r -> {
+				Thread worker = new Thread(r, "Reporting listeners");
+				worker.setDaemon(true);
+				reportingThread = worker;
+				return worker;
+			}, (r, executor) -> {
+				if (executor.isShutdown())
+					throw new RejectedExecutionException("Reporting listeners are stopped");
+				try {
+					executor.getQueue().put(r);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RejectedExecutionException(e);
+				}
+			});
+
+	static {
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(ListenerDispatcher::flush, "Reporting listeners flushing"));
+	}
+
+	private final List<Object> listeners;
+	private final Map<Class<?>, List<?>> synchronous = new ConcurrentHashMap<Class<?>, List<?>>();
+	private final Map<Class<?>, List<?>> asynchronous = new ConcurrentHashMap<Class<?>, List<?>>();
+
+	/**
+	 * @param spiTypes are interfaces which implementors are found by SPI
+	 */
+	ListenerDispatcher(Class<?>... spiTypes) {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ClassLoader classLoader = contextClassLoader != null ? contextClassLoader
+				: ClassLoader.getSystemClassLoader();
+
+		// an implementor of several interfaces is instantiated once
+		Set<Class<?>> implementors = new LinkedHashSet<Class<?>>();
+		for (Class<?> spiType : spiTypes)
+			implementors.addAll(getImplementors(spiType, classLoader));
+
+		List<Object> result = new ArrayList<Object>();
+		for (Class<?> implementor : implementors) {
+			try {
+				result.add(implementor.getConstructor().newInstance());
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		listeners = Collections.unmodifiableList(result);
+	}
+
+	private static List<Class<?>> getImplementors(Class<?> spiType,
+			ClassLoader classLoader) {
+		Map<ClassLoader, List<WeakReference<Class<?>>>> found = providers
+				.get(spiType);
+		List<WeakReference<Class<?>>> cached = found.get(classLoader);
+		if (cached != null) {
+			List<Class<?>> result = new ArrayList<Class<?>>();
+			for (WeakReference<Class<?>> reference : cached) {
+				Class<?> implementor = reference.get();
+				if (implementor == null) // it has been unloaded
+					break;
+				result.add(implementor);
+			}
+			if (result.size() == cached.size())
+				return result;
+		}
+
+		List<Class<?>> result = new ArrayList<Class<?>>();
+		List<WeakReference<Class<?>>> references = new ArrayList<WeakReference<Class<?>>>();
+		Iterator<?> loaded = ServiceLoader.load(spiType, classLoader).iterator();
+		while (loaded.hasNext()) {
+			Class<?> implementor = loaded.next().getClass();
+			result.add(implementor);
+			references.add(new WeakReference<Class<?>>(implementor));
+		}
+		found.put(classLoader, Collections.unmodifiableList(references));
+		return result;
+	}
+
+	/**
+	 * Waits until events which have been fired before are delivered to 
+	 * listeners which are marked by {@link Reporting}
+	 */
+	static void flush() {
+		if (Thread.currentThread() == reportingThread)
+			return; // a listener fires an event. It can't wait for itself
+		try {
+			reportingWorker.submit(() -> {
+			}).get(FLUSH_TIMEOUT_SEC, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException
+				| RejectedExecutionException e) {
+			Log.debug("Reporting listeners have not been flushed", e);
+		}
+	}
+
+	private List<?> getSubscribers(Class<?> listenerType, boolean isReporting) {
+		List<Object> result = new ArrayList<Object>();
+		for (Object listener : listeners) {
+			if (listenerType.isInstance(listener)
+					&& listener.getClass().isAnnotationPresent(Reporting.class) == isReporting)
+				result.add(listener);
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Delivers the event to listeners which implement the given type
+	 * 
+	 * @param listenerType is the listener interface which declares the event
+	 * @param event invokes the method of a listener
+	 */
+	@SuppressWarnings("unchecked")
+	<L> void fire(Class<L> listenerType, Consumer<? super L> event) {
+		List<L> reporting = (List<L>) asynchronous.computeIfAbsent(listenerType,
+				type -> getSubscribers(type, true));
+		if (reporting.size() > 0) {
+			reportingWorker.execute(() -> reporting.forEach(listener -> {
+				try {
+					event.accept(listener);
+				} catch (Exception e) {
+					Log.debug("Listener " + listener.getClass().getName()
+							+ " has failed", e);
+				}
+			}));
+		}
+
+		List<L> subscribers = (List<L>) synchronous.computeIfAbsent(listenerType,
+				type -> getSubscribers(type, false));
+		subscribers.forEach(event);
+	}
+}
@@ -0,0 +1,283 @@
+package com.github.arachnidium.core.bean;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileElement;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.AndroidElement;
+import io.appium.java_client.ios.IOSDriver;
+import io.appium.java_client.ios.IOSElement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodProxy;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.ContextAware;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Navigation;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebElement;
+
+import com.github.arachnidium.util.proxy.DefaultInterceptor;
+import com.github.arachnidium.util.proxy.DispatchTable;
+import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
+
+/**
+ * It is the compiled alternative of {@link AspectWebDriver}. Hooks of 
+ * {@link WebDriverListening} which should be invoked by the method are found 
+ * once per class of the listened object. Methods which are not listened are 
+ * invoked straight.<br/>
+ * <br/>
+ * Listened objects are the same as in {@link AspectWebDriver}. Hooks
+ * are invoked in the same order as advices.<br/>
+ * <br/>
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} are 
+ * delegated to the listened object. The listenable argument of equals is
+ * replaced with the object which it listens to. So the listenable object
+ * is equal to itself and to other listenable objects of the same element.
+ */
+class ListeningInterceptor extends DefaultInterceptor {
+
+	interface Hook {
+		void apply(WebDriverListening listening, Object target, Object[] args);
+	}
+
+	private static class HookSpec {
+		private final Class<?> type;
+		private final String methodName; // null means any method of the type
+		private final Hook hook;
+
+		private HookSpec(Class<?> type, String methodName, Hook hook) {
+			this.type = type;
+			this.methodName = methodName;
+			this.hook = hook;
+		}
+
+		private boolean matches(Class<?> targetClass, Method method) {
+			if (methodName != null && !methodName.equals(method.getName()))
+				return false;
+			return isDeclaredBy(type, targetClass, method);
+		}
+	}
+
+	/**
+	 * Hooks which should be invoked by the method. 
+	 */
+	static class MethodPlan {
+		final Hook[] before;
+		final Hook[] after;
+
+		private MethodPlan(Hook[] before, Hook[] after) {
+			this.before = before;
+			this.after = after;
+		}
+	}
+
+	// the same as the pointcut of AspectWebDriver#doAround
+	private static final List<Class<?>> listenedTypes = Arrays.asList(
+			WebDriver.class, WebElement.class, Navigation.class, Options.class,
+			TargetLocator.class, JavascriptExecutor.class, ContextAware.class,
+			Alert.class, MobileElement.class, AppiumDriver.class,
+			AndroidDriver.class, IOSDriver.class, AndroidElement.class,
+			IOSElement.class);
+
+	private static final List<HookSpec> beforeHooks = Arrays.asList(
+			new HookSpec(Navigation.class, "get", WebDriverListening::beforeNavigateTo),
+			new HookSpec(Navigation.class, "to", WebDriverListening::beforeNavigateTo),
+			new HookSpec(Navigation.class, "back", WebDriverListening::beforeNavigateBack),
+			new HookSpec(Navigation.class, "forward", WebDriverListening::beforeNavigateForward),
+			new HookSpec(SearchContext.class, "findElement", WebDriverListening::beforeFindBy),
+			new HookSpec(SearchContext.class, "findElements", WebDriverListening::beforeFindBy),
+			new HookSpec(WebElement.class, "click", WebDriverListening::beforeClickOn),
+			new HookSpec(WebElement.class, "sendKeys", WebDriverListening::beforeChangeValueOf),
+			new HookSpec(WebElement.class, "clear", WebDriverListening::beforeChangeValueOf),
+			new HookSpec(JavascriptExecutor.class, "executeScript", WebDriverListening::beforeScript),
+			new HookSpec(JavascriptExecutor.class, "executeAsyncScript", WebDriverListening::beforeScript),
+			new HookSpec(Alert.class, "accept", WebDriverListening::beforeAlertAccept),
+			new HookSpec(Alert.class, "dismiss", WebDriverListening::beforeAlertDismiss),
+			new HookSpec(Alert.class, "sendKeys", WebDriverListening::beforeAlertSendKeys),
+			new HookSpec(WebElement.class, "submit", WebDriverListening::beforeSubmit),
+			new HookSpec(WebDriver.class, "quit", WebDriverListening::beforeQuit));
+
+	private static final List<HookSpec> afterHooks = Arrays.asList(
+			new HookSpec(Navigation.class, "get", WebDriverListening::afterNavigateTo),
+			new HookSpec(Navigation.class, "to", WebDriverListening::afterNavigateTo),
+			new HookSpec(Navigation.class, "back", WebDriverListening::afterNavigateBack),
+			new HookSpec(Navigation.class, "forward", WebDriverListening::afterNavigateForward),
+			new HookSpec(SearchContext.class, "findElement", WebDriverListening::afterFindBy),
+			new HookSpec(SearchContext.class, "findElements", WebDriverListening::afterFindBy),
+			new HookSpec(WebElement.class, "click", WebDriverListening::afterClickOn),
+			new HookSpec(WebElement.class, "sendKeys", WebDriverListening::afterChangeValueOf),
+			new HookSpec(WebElement.class, "clear", WebDriverListening::afterChangeValueOf),
+			new HookSpec(JavascriptExecutor.class, "executeScript", WebDriverListening::afterScript),
+			new HookSpec(JavascriptExecutor.class, "executeAsyncScript", WebDriverListening::afterScript),
+			new HookSpec(Alert.class, "accept", WebDriverListening::afterAlertAccept),
+			new HookSpec(Alert.class, "dismiss", WebDriverListening::afterAlertDismiss),
+			new HookSpec(Alert.class, "sendKeys", WebDriverListening::afterAlertSendKeys),
+			new HookSpec(WebElement.class, "submit", WebDriverListening::afterSubmit),
+			new HookSpec(TargetLocator.class, "window", WebDriverListening::afterWindowSwitching),
+			new HookSpec(TargetLocator.class, "frame", WebDriverListening::afterFrameSwitching),
+			new HookSpec(TargetLocator.class, "parentFrame", WebDriverListening::afterFrameSwitching),
+			new HookSpec(TargetLocator.class, "defaultContent", WebDriverListening::afterDefaultContentSwitching),
+			new HookSpec(ContextAware.class, "context", WebDriverListening::afterContextSwitching),
+			new HookSpec(WebDriver.class, "get", WebDriverListening::afterNavigation),
+			new HookSpec(Navigation.class, null, WebDriverListening::afterNavigation),
+			new HookSpec(WebDriver.class, "get", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(Navigation.class, null, WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(WebElement.class, "click", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(WebElement.class, "submit", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(WebElement.class, "sendKeys", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(JavascriptExecutor.class, "executeScript", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(JavascriptExecutor.class, "executeAsyncScript", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(Alert.class, "accept", WebDriverListening::afterPossibleWindowChanging),
+			new HookSpec(WebDriver.class, "close", WebDriverListening::afterClose));
+
+	// methods which are not listened
+	static final MethodPlan PASS_THROUGH = new MethodPlan(null, null);
+
+	private static final ClassValue<Map<Method, MethodPlan>> plans = 
+			new ClassValue<Map<Method, MethodPlan>>() {
+		@Override
+		protected Map<Method, MethodPlan> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<Method, MethodPlan>();
+		}
+	};
+
+	private final Object target;
+	private final WebDriverListening listening;
+
+	private ListeningInterceptor(Object target, WebDriverListening listening) {
+		this.target = target;
+		this.listening = listening;
+	}
+
+	private static boolean isDeclaredBy(Class<?> type, Class<?> targetClass,
+			Method method) {
+		if (!type.isAssignableFrom(targetClass)
+				|| method.getDeclaringClass().equals(Object.class))
+			return false;
+		try {
+			type.getMethod(method.getName(), method.getParameterTypes());
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static Hook[] getHooks(List<HookSpec> specs, Class<?> targetClass,
+			Method method) {
+		List<Hook> result = new ArrayList<Hook>();
+		for (HookSpec spec : specs) {
+			if (spec.matches(targetClass, method))
+				result.add(spec.hook);
+		}
+		return result.toArray(new Hook[result.size()]);
+	}
+
+	static MethodPlan compile(Class<?> targetClass, Method method) {
+		for (Class<?> type : listenedTypes) {
+			if (isDeclaredBy(type, targetClass, method))
+				return new MethodPlan(getHooks(beforeHooks, targetClass, method),
+						getHooks(afterHooks, targetClass, method));
+		}
+		return PASS_THROUGH;
+	}
+
+	/**
+	 * @param object is the original object
+	 * @param listening reactions of the session
+	 * @return the listenable object 
+	 */
+	static <T> T getListenable(T object, WebDriverListening listening) {
+		@SuppressWarnings("unchecked")
+		Class<T> objectClass = (Class<T>) object.getClass();
+		return EnhancedProxyFactory.getProxyBypassConstructor(objectClass,
+				new ListeningInterceptor(object, listening));
+	}
+
+	private Object transformToListenable(Object result) {
+		if (result == null) // maybe it was "void"
+			return result;
+		if (List.class.isAssignableFrom(result.getClass()))
+			return new LazyListenableList((List<?>) result,
+					this::transformToListenable);
+		if (AspectWebDriver.getClassForProxy(result.getClass()) != null)
+			return listening.session.listenableElements.getListenable(result,
+					component -> getListenable(component, listening));
+		return result;
+	}
+
+	/**
+	 * @param object is an argument of the invoked method
+	 * @return the listened object if the given one is listenable. The given
+	 * object otherwise.
+	 */
+	private static Object unwrap(Object object) {
+		if (!(object instanceof Factory))
+			return object;
+		for (Callback callback : ((Factory) object).getCallbacks()) {
+			if (callback instanceof ListeningInterceptor)
+				return ((ListeningInterceptor) callback).target;
+		}
+		return object;
+	}
+
+	private static boolean isEquals(Method method) {
+		return "equals".equals(method.getName())
+				&& method.getParameterCount() == 1
+				&& method.getParameterTypes()[0].equals(Object.class);
+	}
+
+	private static boolean isHashCode(Method method) {
+		return "hashCode".equals(method.getName())
+				&& method.getParameterCount() == 0;
+	}
+
+	private Object invoke(Method method, Object[] args) throws Throwable {
+		try {
+			return DispatchTable.invoke(target, method, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	@Override
+	public Object intercept(Object obj, Method method, Object[] args,
+			MethodProxy proxy) throws Throwable {
+		if (isEquals(method))
+			return target.equals(unwrap(args[0]));
+		if (isHashCode(method))
+			return target.hashCode();
+		
+		MethodPlan plan = plans.get(target.getClass()).computeIfAbsent(method,
+				m -> compile(target.getClass(), m));
+		if (plan == PASS_THROUGH)
+			return invoke(method, args);
+
+		Object result = null;
+		try {
+			for (Hook hook : plan.before)
+				hook.apply(listening, target, args);
+			try {
+				result = invoke(method, args);
+			} finally {
+				for (Hook hook : plan.after)
+					hook.apply(listening, target, args);
+			}
+		} catch (Throwable t) {
+			throw listening.onException(t);
+		}
+		return transformToListenable(result);
+	}
+}
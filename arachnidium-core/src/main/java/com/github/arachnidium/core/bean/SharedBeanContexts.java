@@ -0,0 +1,137 @@
+package com.github.arachnidium.core.bean;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AbstractAspectJAdvice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * Spring contexts are built once per bean configuration
+ * (e.g. {@link WebDriverBeanConfiguration}) and they are shared by all
+ * sessions. So AspectJ pointcuts and auto-proxy infrastructure are not
+ * created again for each new {@link org.openqa.selenium.WebDriver}, window or
+ * mobile context manager.<br/>
+ * <br/>
+ * Beans are created per session. Objects of the session (configuration, focus tracker
+ * and so on) are not kept by bean configurations. They are given to aspects 
+ * when the listenable bean is created.<br/>
+ * <br/>
+ * Contexts live while the process lives. They are closed when JVM is 
+ * shutting down or when {@link #closeAll()} is invoked. Beans are prototypes,
+ * so contexts don't keep anything of finished sessions.
+ */
+public final class SharedBeanContexts {
+	
+	/**
+	 * Builds the context of the bean configuration once
+	 */
+	private static final class ContextHolder {
+		private final Class<?> configuration;
+		private AbstractApplicationContext context;
+
+		private ContextHolder(Class<?> configuration) {
+			this.configuration = configuration;
+		}
+
+		private synchronized AbstractApplicationContext getContext() {
+			if (context == null) {
+				context = new AnnotationConfigApplicationContext(configuration);
+				context.registerShutdownHook();
+				builtContexts.add(this);
+			}
+			return context;
+		}
+
+		private synchronized void close() {
+			if (context == null)
+				return;
+			context.close();
+			context = null;
+			builtContexts.remove(this);
+		}
+	}
+	
+	// ClassValue may compute the value several times when threads race.
+	// Only one holder is kept and the holder builds the context
+	private static final ClassValue<ContextHolder> contexts = 
+			new ClassValue<ContextHolder>() {
+		@Override
+		protected ContextHolder computeValue(Class<?> configuration) {
+			return new ContextHolder(configuration);
+		}
+	};
+	
+	private static final Set<ContextHolder> builtContexts = ConcurrentHashMap.newKeySet();
+	
+	// the session whose bean is being created now
+	private static final ThreadLocal<Object> currentSession = new ThreadLocal<Object>();
+
+	private SharedBeanContexts() {
+		super();
+	}
+
+	/**
+	 * Closes all built contexts. It is the explicit global shutdown 
+	 * (e.g. the class loader is going to be discarded). Contexts are 
+	 * built again if beans are required later
+	 */
+	public static void closeAll() {
+		for (ContextHolder holder : builtContexts)
+			holder.close();
+	}
+
+	/**
+	 * Aspects are instantiated lazily by default. Here they are 
+	 * instantiated while the session is known
+	 */
+	private static void instantiateAspects(Object bean) {
+		if (!Advised.class.isAssignableFrom(bean.getClass()))
+			return;
+		for (Advisor advisor : ((Advised) bean).getAdvisors()) {
+			Advice advice = advisor.getAdvice();
+			if (advice instanceof AbstractAspectJAdvice)
+				((AbstractAspectJAdvice) advice).getAspectInstanceFactory()
+						.getAspectInstance();
+		}
+	}
+
+	/**
+	 * @param configuration is the class of the bean configuration
+	 * @param session is the object of the session. Aspects which are created 
+	 * for the required bean receive it (see {@link #getSession()})
+	 * @param name is the name of the required bean 
+	 * @param args are arguments of the bean
+	 * @return the listenable bean
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T getBean(Class<?> configuration, Object session,
+			String name, Object... args) {
+		Object previous = currentSession.get();
+		currentSession.set(session);
+		try {
+			T result = (T) contexts.get(configuration).getContext().getBean(name,
+					args);
+			instantiateAspects(result);
+			return result;
+		} finally {
+			if (previous != null)
+				currentSession.set(previous);
+			else
+				currentSession.remove();
+		}
+	}
+
+	/**
+	 * @return the object of the session whose bean is being created now.
+	 * It is for bean configurations
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T getSession() {
+		return (T) currentSession.get();
+	}
+}
@@ -21,49 +21,66 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Scope;
-import org.springframework.context.support.AbstractApplicationContext;
-import com.github.arachnidium.core.interfaces.IDestroyable;
-import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
+
 import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
 
 
 /**
  * This is {@link AnnotationConfigApplicationContext}
  * 
+ * @see SharedBeanContexts
  */
 @Configuration
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 public class WebDriverBeanConfiguration {
-	private IConfigurationWrapper wrapper;
-	private AbstractApplicationContext context;
-	private IDestroyable destroyable;
 	
 	public final static String COMPONENT_BEAN = "component";
 	public final static String WEBDRIVER_BEAN = "webdriver";
-	private WebDriver driver;
 	
 	/**
 	 * Creates {@link WebDriver} instance and makes it listenable.
 	 * 
-	 * @param context instantiated {@link AbstractApplicationContext} 
-	 * which is used by {@link AspectWebDriver}
-	 * @param configurationWrapper something that wraps {@link Configuration}
-	 * {@link AspectWebDriver} needs it
-	 * @param destroyable Something that implements {@link IDestroyable}
+	 * @param session contains objects which are related to the new {@link WebDriver}. 
+	 * {@link AspectWebDriver} needs them
 	 * @param required Class of {@link WebDriver} implementor
-	 * @param paramClasses  Are constructor parameters
 	 * @param paramValues Are constructor parameter values
 	 * 
 	 * @return A listenable {@link WebDriver} instance
 	 */
-	@SuppressWarnings("unchecked")
 	@Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 	@Bean(name = WEBDRIVER_BEAN)
-	public <T extends WebDriver> T getWebdriver(AbstractApplicationContext context, 
-			IConfigurationWrapper configurationWrapper,
-			IDestroyable destroyable,
+	public <T extends WebDriver> T getWebdriver(WebDriverSession session,
 			Class<T> required,
 			Object[] paramValues) {
+		T result = createWebdriver(required, paramValues);
+		session.driver = result;
+		return result;
+	}
+	
+	/**
+	 * Creates {@link WebDriver} instance and makes it listenable without
+	 * AspectJ. Listened methods are found once per class. Other
+	 * methods are invoked straight.
+	 * 
+	 * @param session contains objects which are related to the new {@link WebDriver}
+	 * @param required Class of {@link WebDriver} implementor
+	 * @param paramValues Are constructor parameter values
+	 * 
+	 * @return A listenable {@link WebDriver} instance
+	 * 
+	 * @see #getWebdriver(WebDriverSession, Class, Object[])
+	 */
+	public static <T extends WebDriver> T getCompiledListenableWebdriver(
+			WebDriverSession session, Class<T> required, Object[] paramValues) {
+		T result = createWebdriver(required, paramValues);
+		session.driver = result;
+		return ListeningInterceptor.getListenable(result,
+				new WebDriverListening(session));
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <T extends WebDriver> T createWebdriver(Class<T> required,
+			Object[] paramValues) {
 		try {
             Constructor<?> c = ExecutableUtil.getRelevantConstructor(required, paramValues);
 			
@@ -71,8 +88,7 @@ public class WebDriverBeanConfiguration {
 				throw new NoSuchMethodException(required.getName() + " has no constructor that matches " +
 						"given parameters " + Arrays.asList(paramValues).toString());
 			}
-			T result = (T) c.newInstance(paramValues);
-			return (T) populate(context, configurationWrapper, destroyable, result);
+			return (T) c.newInstance(paramValues);
 		} catch (NoSuchMethodException | SecurityException
 				| InstantiationException | IllegalAccessException
 				| IllegalArgumentException | InvocationTargetException e) {
@@ -80,17 +96,6 @@ public class WebDriverBeanConfiguration {
 		}
 	}
 	
-	private WebDriver populate(AbstractApplicationContext context, 
-			IConfigurationWrapper configurationWrapper,
-			IDestroyable destroyable,
-			WebDriver driver){
-		this.driver = driver;
-		wrapper = configurationWrapper;
-		this.destroyable = destroyable;
-		this.context = context;
-		return driver;
-	}
-	
 	/**
 	 * It return listenable {@link WebDriver} components
 	 * 
@@ -119,6 +124,6 @@ public class WebDriverBeanConfiguration {
 	@Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 	@Bean(name = "webdriverAspect")
 	AspectWebDriver getWebdriverAspect(){
-		return new AspectWebDriver(driver, wrapper, destroyable, context);
+		return new AspectWebDriver(SharedBeanContexts.getSession());
 	}
 }
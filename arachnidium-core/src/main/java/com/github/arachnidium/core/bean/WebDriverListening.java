@@ -0,0 +1,186 @@
+package com.github.arachnidium.core.bean;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchContextException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.github.arachnidium.core.FocusTracker;
+import com.github.arachnidium.core.WindowMetadataCache;
+import com.github.arachnidium.core.interfaces.IDestroyable;
+
+/**
+ * Reactions on events of the one {@link WebDriver} session. Both 
+ * {@link AspectWebDriver} and {@link ListeningInterceptor} use it.<br/>
+ * Each hook receives the listened object (driver, element, alert etc.) and
+ * arguments of the invoked method.
+ */
+final class WebDriverListening {
+	private final WebDriver driver;
+	private final IDestroyable destroyable;
+	private final FocusTracker focusTracker;
+	private final WindowMetadataCache windowMetadataCache;
+	private final DefaultWebDriverEventListener listener;
+	final WebDriverSession session;
+
+	WebDriverListening(WebDriverSession session) {
+		this.session = session;
+		driver = session.driver;
+		destroyable = session.destroyable;
+		focusTracker = session.focusTracker;
+		windowMetadataCache = session.windowMetadataCache;
+		listener = new DefaultWebDriverEventListener(session.configurationWrapper);
+	}
+
+	private static WebElement asElement(Object target) {
+		if (!WebElement.class.isAssignableFrom(target.getClass()))
+			return null;
+		return (WebElement) target;
+	}
+
+	void beforeNavigateTo(Object target, Object[] args) {
+		listener.beforeNavigateTo(String.valueOf(args[0]), driver);
+	}
+
+	void afterNavigateTo(Object target, Object[] args) {
+		listener.afterNavigateTo(String.valueOf(args[0]), driver);
+	}
+
+	void beforeNavigateBack(Object target, Object[] args) {
+		listener.beforeNavigateBack(driver);
+	}
+
+	void afterNavigateBack(Object target, Object[] args) {
+		listener.afterNavigateBack(driver);
+	}
+
+	void beforeNavigateForward(Object target, Object[] args) {
+		listener.beforeNavigateForward(driver);
+	}
+
+	void afterNavigateForward(Object target, Object[] args) {
+		listener.afterNavigateForward(driver);
+	}
+
+	void beforeFindBy(Object target, Object[] args) {
+		listener.beforeFindBy((By) args[0], asElement(target), driver);
+	}
+
+	void afterFindBy(Object target, Object[] args) {
+		listener.afterFindBy((By) args[0], asElement(target), driver);
+	}
+
+	void beforeClickOn(Object target, Object[] args) {
+		listener.beforeClickOn((WebElement) target, driver);
+	}
+
+	void afterClickOn(Object target, Object[] args) {
+		listener.afterClickOn((WebElement) target, driver);
+	}
+
+	void beforeChangeValueOf(Object target, Object[] args) {
+		listener.beforeChangeValueOf((WebElement) target, driver);
+	}
+
+	void afterChangeValueOf(Object target, Object[] args) {
+		listener.afterChangeValueOf((WebElement) target, driver);
+	}
+
+	void beforeScript(Object target, Object[] args) {
+		listener.beforeScript(String.valueOf(args[0]), driver);
+	}
+
+	void afterScript(Object target, Object[] args) {
+		listener.afterScript(String.valueOf(args[0]), driver);
+	}
+
+	void beforeAlertAccept(Object target, Object[] args) {
+		listener.beforeAlertAccept(driver, (Alert) target);
+	}
+
+	void afterAlertAccept(Object target, Object[] args) {
+		listener.afterAlertAccept(driver, (Alert) target);
+	}
+
+	void beforeAlertDismiss(Object target, Object[] args) {
+		listener.beforeAlertDismiss(driver, (Alert) target);
+	}
+
+	void afterAlertDismiss(Object target, Object[] args) {
+		listener.afterAlertDismiss(driver, (Alert) target);
+	}
+
+	void beforeAlertSendKeys(Object target, Object[] args) {
+		listener.beforeAlertSendKeys(driver, (Alert) target,
+				String.valueOf(args[0]));
+	}
+
+	void afterAlertSendKeys(Object target, Object[] args) {
+		listener.afterAlertSendKeys(driver, (Alert) target,
+				String.valueOf(args[0]));
+	}
+
+	void beforeSubmit(Object target, Object[] args) {
+		listener.beforeSubmit(driver, (WebElement) target);
+	}
+
+	void afterSubmit(Object target, Object[] args) {
+		listener.afterSubmit(driver, (WebElement) target);
+	}
+
+	void afterWindowSwitching(Object target, Object[] args) {
+		focusTracker.handleIsSwitched(String.valueOf(args[0]));
+	}
+
+	void afterFrameSwitching(Object target, Object[] args) {
+		focusTracker.frameIsSwitched();
+	}
+
+	void afterDefaultContentSwitching(Object target, Object[] args) {
+		focusTracker.defaultContentIsSwitched();
+	}
+
+	void afterContextSwitching(Object target, Object[] args) {
+		focusTracker.contextIsSwitched(String.valueOf(args[0]));
+	}
+
+	// the top level document is focused after navigation
+	void afterNavigation(Object target, Object[] args) {
+		focusTracker.navigationIsPerformed();
+	}
+
+	// title, URL and the document of the active window may be changed
+	void afterPossibleWindowChanging(Object target, Object[] args) {
+		windowMetadataCache.invalidate(focusTracker.getActiveHandle());
+		focusTracker.documentMayBeChanged();
+	}
+
+	void afterClose(Object target, Object[] args) {
+		windowMetadataCache.invalidate(focusTracker.getActiveHandle());
+		focusTracker.invalidate();
+	}
+
+	void beforeQuit(Object target, Object[] args) {
+		destroyable.destroy();
+		focusTracker.invalidate();
+		listener.beforeQuit(driver);
+	}
+
+	/**
+	 * @param thrown is something that was thrown by the listened object
+	 * @return the root cause which should be thrown instead
+	 */
+	Throwable onException(Throwable thrown) {
+		Throwable rootCause = AbstractAspect.getRootCause(thrown);
+		if (NoSuchWindowException.class.isAssignableFrom(rootCause.getClass()) ||
+				NoSuchFrameException.class.isAssignableFrom(rootCause.getClass()) ||
+				NoSuchContextException.class.isAssignableFrom(rootCause.getClass())) {
+			focusTracker.invalidate(); //the focused target may be lost
+		}
+		listener.onException(rootCause, driver);
+		return rootCause;
+	}
+}
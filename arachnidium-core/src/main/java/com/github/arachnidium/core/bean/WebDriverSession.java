@@ -0,0 +1,42 @@
+package com.github.arachnidium.core.bean;
+
+import org.openqa.selenium.WebDriver;
+
+import com.github.arachnidium.core.FocusTracker;
+import com.github.arachnidium.core.WindowMetadataCache;
+import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
+
+/**
+ * Objects which are related to the one {@link WebDriver}.
+ * {@link AspectWebDriver} needs them.
+ * 
+ * @see WebDriverBeanConfiguration
+ * @see SharedBeanContexts
+ */
+public final class WebDriverSession {
+	final IConfigurationWrapper configurationWrapper;
+	final IDestroyable destroyable;
+	final FocusTracker focusTracker;
+	final WindowMetadataCache windowMetadataCache;
+	// listenable wrappers of found elements
+	final ListenableElementCache listenableElements = new ListenableElementCache();
+	WebDriver driver;
+
+	/**
+	 * @param configurationWrapper something that wraps {@link com.github.arachnidium.util.configuration.Configuration}
+	 * @param destroyable Something that implements {@link IDestroyable}
+	 * @param focusTracker remembers the focused window/context and frames. 
+	 * {@link AspectWebDriver} updates it
+	 * @param windowMetadataCache keeps titles and URLs of browser windows.
+	 * {@link AspectWebDriver} invalidates it
+	 */
+	public WebDriverSession(IConfigurationWrapper configurationWrapper,
+			IDestroyable destroyable, FocusTracker focusTracker,
+			WindowMetadataCache windowMetadataCache) {
+		this.configurationWrapper = configurationWrapper;
+		this.destroyable = destroyable;
+		this.focusTracker = focusTracker;
+		this.windowMetadataCache = windowMetadataCache;
+	}
+}
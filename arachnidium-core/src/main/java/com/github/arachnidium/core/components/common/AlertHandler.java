@@ -7,6 +7,9 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import com.github.arachnidium.core.components.WebdriverComponent;
+import com.github.arachnidium.core.settings.Polling;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 
 /**
  * {@link Alert} implementor
@@ -23,9 +26,24 @@ public abstract class AlertHandler extends WebdriverComponent implements Alert {
 	 */
 	public AlertHandler(WebDriver driver, long secTimeOut)
 			throws NoAlertPresentException {
+		this(driver, secTimeOut, () -> Configuration.byDefault);
+	}
+
+	/**
+	 * Creates an alert representation 
+	 * 
+	 * @param driver {@link WebDriver} instance 
+	 * @param secTimeOut time out in second of awaiting for an alert
+	 * @param configurationWrapper something that wraps {@link Configuration}.
+	 * {@link Polling} settings are read from it
+	 * @throws NoAlertPresentException
+	 */
+	public AlertHandler(WebDriver driver, long secTimeOut,
+			IConfigurationWrapper configurationWrapper)
+			throws NoAlertPresentException {
 		super(driver);
 		try {
-			delegate = new Awaiting(driver)
+			delegate = new Awaiting(driver, configurationWrapper)
 					.awaitCondition(secTimeOut,
 							ExpectedConditions.alertIsPresent());
 		} catch (TimeoutException e) {
@@ -2,24 +2,103 @@ package com.github.arachnidium.core.components.common;
 
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Duration;
 import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.SystemClock;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.github.arachnidium.core.settings.Polling;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
+
 /**
- * Just a simple tool to 
- * perform waiting for something by {@link ExpectedCondition}
+ * Just a simple tool to
+ * perform waiting for something by {@link ExpectedCondition}.
+ *
+ * Polling is performed according to {@link Polling} settings:
+ * fast initial poll, exponential backoff with a cap,
+ * the optional limit of checks (remote calls) per waiting
  */
 public class Awaiting {
     private final WebDriver driver;
-    
+    private final IConfigurationWrapper configurationWrapper;
+
 	public Awaiting(WebDriver driver) {
+		this(driver, () -> Configuration.byDefault);
+	}
+
+	/**
+	 * @param driver {@link WebDriver} instance
+	 * @param configurationWrapper something that wraps {@link Configuration}.
+	 * {@link Polling} settings are read from it
+	 */
+	public Awaiting(WebDriver driver, IConfigurationWrapper configurationWrapper) {
 		this.driver = driver;
+		this.configurationWrapper = configurationWrapper;
+	}
+
+	/**
+	 * Sleeps between checks. Each next sleeping is
+	 * longer than previous until the max interval is reached
+	 */
+	private static class BackoffSleeper implements Sleeper {
+		private final long maxInterval;
+		private final float multiplier;
+		private long interval;
+
+		private BackoffSleeper(Polling polling) {
+			interval = polling.getInitialInterval();
+			maxInterval = polling.getMaxInterval();
+			multiplier = polling.getBackoffMultiplier();
+		}
+
+		@Override
+		public void sleep(Duration ignored) throws InterruptedException {
+			Thread.sleep(interval);
+			interval = Math.min(maxInterval, (long) (interval * multiplier));
+		}
+	}
+
+	/**
+	 * Counts checks and makes the first check
+	 * "not free" when it is required
+	 */
+	private static ExpectedCondition<?> withBudget(Polling polling,
+			ExpectedCondition<?> condition) {
+		boolean firstCheckIsFree = polling.getFirstCheckIsFree();
+		Integer maxChecks = polling.getMaxChecks();
+		long initialInterval = polling.getInitialInterval();
+		int[] checks = new int[] {0};
+
+		return (ExpectedCondition<Object>) input -> {
+			checks[0]++;
+			if (checks[0] == 1 && !firstCheckIsFree) {
+				try {
+					Thread.sleep(initialInterval);
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			}
+
+			int counted = checks[0];
+			if (firstCheckIsFree)
+				counted--;
+			if (maxChecks != null && counted > maxChecks)
+				throw new TimeoutException("The limit of checks (" + maxChecks
+						+ ") has been exhausted. Condition: " + condition.toString());
+			return condition.apply(input);
+		};
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T> T awaitCondition(long secTimeOut, ExpectedCondition<?> condition)
 			throws TimeoutException {
-		return (T) new WebDriverWait(driver, secTimeOut).until(condition);
+		Polling polling = configurationWrapper.getWrappedConfiguration()
+				.getSection(Polling.class);
+		return (T) new WebDriverWait(driver, new SystemClock(),
+				new BackoffSleeper(polling), secTimeOut,
+				polling.getInitialInterval()).until(withBudget(polling, condition));
 	}
 
 	@SuppressWarnings("unchecked")
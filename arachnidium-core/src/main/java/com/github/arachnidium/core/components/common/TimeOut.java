@@ -15,6 +15,14 @@ import com.github.arachnidium.core.settings.WebDriverTimeOuts;
 /**
  * {@link Timeouts} implementor
  * New possibilities: It can pass out given time outs values.
+ * Values are not sent to the server again if they are already set there.
+ * The implicitly wait time out can be changed temporary by 
+ * {@link #withImplicitlyWait(long, TimeUnit)}.<br/>
+ * <br/>
+ * Limitation: only values which are set by this object are known. If time 
+ * outs are changed by <code>driver.manage().timeouts()</code> directly 
+ * then this object will skip the setting of the previously applied value.
+ * So time outs should be changed only by this component.
  */
 public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 		IConfigurable {
@@ -31,6 +39,43 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 	private long scriptTimeOut = defaultTimeOut;
 
 	private TimeUnit scriptTimeUnit = defaultTimeUnit;
+	
+	// values (milliseconds) which have been applied on the server.
+	// null means that the value is unknown
+	private Long appliedImplicitlyWait;
+	private Long appliedPageLoad;
+	private Long appliedScript;
+
+	/**
+	 * The implicitly wait time out is changed
+	 * while this object is not closed. Usage:<br/>
+	 * <br/>
+	 * <code>try (ImplicitlyWaitScope scope = timeOut.withImplicitlyWait(0, TimeUnit.SECONDS)){</code><br/>
+	 * <code>...</code><br/>
+	 * <code>}</code><br/>
+	 * <br/>
+	 * Scopes can be nested. When the scope is closed the value which
+	 * was actual before is set back.
+	 */
+	public final class ImplicitlyWaitScope implements AutoCloseable {
+		private final long previousTimeOut;
+		private final TimeUnit previousTimeUnit;
+		private boolean isClosed;
+
+		private ImplicitlyWaitScope(long timeOut, TimeUnit timeUnit) {
+			previousTimeOut = implicitlyWaitTimeOut;
+			previousTimeUnit = implicitlyWaitTimeUnit;
+			implicitlyWait(timeOut, timeUnit);
+		}
+
+		@Override
+		public void close() {
+			if (isClosed)
+				return;
+			isClosed = true;
+			implicitlyWait(previousTimeOut, previousTimeUnit);
+		}
+	}
 
 	public TimeOut(WebDriver driver) {
 		super(driver);
@@ -67,8 +112,19 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 		return longObjParam;
 	}
 
+	private static boolean isApplied(Long applied, long timeOut,
+			TimeUnit timeUnit) {
+		return applied != null && applied == timeUnit.toMillis(timeOut);
+	}
+
 	@Override
-	public Timeouts implicitlyWait(long timeOut, TimeUnit timeUnit) {
+	public synchronized Timeouts implicitlyWait(long timeOut, TimeUnit timeUnit) {
+		if (isApplied(appliedImplicitlyWait, timeOut, timeUnit)) {
+			implicitlyWaitTimeOut = timeOut;
+			implicitlyWaitTimeUnit = timeUnit;
+			return driver.manage().timeouts();
+		}
+		
 		boolean timeOutsAreSetWell = true;
 		try {
 			return driver.manage().timeouts().implicitlyWait(timeOut, timeUnit);
@@ -81,12 +137,31 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 			if (timeOutsAreSetWell) {
 				implicitlyWaitTimeOut = timeOut;
 				implicitlyWaitTimeUnit = timeUnit;
+				appliedImplicitlyWait = timeUnit.toMillis(timeOut);
 			}
 		}
 	}
+	
+	/**
+	 * Changes the implicitly wait time out temporary
+	 * 
+	 * @param timeOut is the temporary time out value
+	 * @param timeUnit is the temporary time unit
+	 * @return {@link ImplicitlyWaitScope}. The previous value is 
+	 * set back when it is closed
+	 */
+	public ImplicitlyWaitScope withImplicitlyWait(long timeOut, TimeUnit timeUnit) {
+		return new ImplicitlyWaitScope(timeOut, timeUnit);
+	}
 
 	@Override
-	public Timeouts pageLoadTimeout(long timeOut, TimeUnit timeUnit) {
+	public synchronized Timeouts pageLoadTimeout(long timeOut, TimeUnit timeUnit) {
+		if (isApplied(appliedPageLoad, timeOut, timeUnit)) {
+			pageLoadTimeOut = timeOut;
+			pageLoadTimeUnit = timeUnit;
+			return driver.manage().timeouts();
+		}
+		
 		boolean timeOutsAreSetWell = true;
 		try {
 			return driver.manage().timeouts()
@@ -99,6 +174,7 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 			if (timeOutsAreSetWell) {
 				pageLoadTimeOut = timeOut;
 				pageLoadTimeUnit = timeUnit;
+				appliedPageLoad = timeUnit.toMillis(timeOut);
 			}
 		}
 	}
@@ -125,7 +201,13 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 	}
 
 	@Override
-	public Timeouts setScriptTimeout(long timeOut, TimeUnit timeUnit) {
+	public synchronized Timeouts setScriptTimeout(long timeOut, TimeUnit timeUnit) {
+		if (isApplied(appliedScript, timeOut, timeUnit)) {
+			scriptTimeOut = timeOut;
+			scriptTimeUnit = timeUnit;
+			return driver.manage().timeouts();
+		}
+		
 		boolean timeOutsAreSetWell = true;
 		try {
 			return driver.manage().timeouts()
@@ -138,6 +220,7 @@ public abstract class TimeOut extends WebdriverComponent implements Timeouts,
 			if (timeOutsAreSetWell) {
 				scriptTimeOut = timeOut;
 				scriptTimeUnit = timeUnit;
+				appliedScript = timeUnit.toMillis(timeOut);
 			}
 		}
 	}
@@ -0,0 +1,22 @@
+package com.github.arachnidium.core.eventlisteners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Listeners ({@link IWebDriverEventListener}, {@link IWindowListener},
+ * {@link IContextListener} etc.) which only report events can be marked
+ * by this annotation. They are invoked by the separate thread so the
+ * listened action doesn't wait for them. Such listeners should not
+ * interact with the given {@link org.openqa.selenium.WebDriver}, windows,
+ * elements and so on.<br/>
+ * <br/>
+ * Events are received in the order of firing. Events which are queued are
+ * delivered before the driver quits and before the JVM exits.
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface Reporting {
+}
@@ -1,217 +1,211 @@
 package com.github.arachnidium.core.fluenthandle;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.github.arachnidium.core.WindowMetadataCache;
 
 /**
  * Fluent waiting for browser window handle
- * 
+ *
  * @see IFluentHandleWaiting
  */
 public class FluentPageWaiting implements IFluentHandleWaiting {
 
-	private static String getHandleWhichMatchesToTitles(String handle,
-			String titleRegExp, String winTitle) {
-		Pattern p = Pattern.compile(titleRegExp);
-		Matcher m = p.matcher(winTitle);
-		if (m.find()) {
-			return handle;
-		} else
-			return null;
+	private final WindowMetadataCache windowMetadataCache;
+
+	public FluentPageWaiting() {
+		this(null);
 	}
 
-	private static String getHandleWhichMatchesToURLs(String handle,
-			List<String> urlsRegExps, String currentUrl) {
-		for (String url : urlsRegExps) {
-			Pattern p = Pattern.compile(url);
-			Matcher m = p.matcher(currentUrl);
+	/**
+	 * @param windowMetadataCache keeps titles and URLs of known windows.
+	 * They are not read from the browser again while they are relevant
+	 */
+	public FluentPageWaiting(WindowMetadataCache windowMetadataCache) {
+		this.windowMetadataCache = windowMetadataCache;
+	}
 
-			if (m.find()) {
-				return handle;
-			}
+	/**
+	 * @return <code>true</code> if the window matches by known title/URL. 
+	 * <code>null</code> means that the browser should be asked. Known values
+	 * which don't match are not trusted: the window may be still loading
+	 * (e.g. it is a new popup) or it may be changed in background
+	 */
+	private Boolean matchesByKnownValues(String handle, HandleMatchingPlan plan) {
+		if (!plan.checksStringIdentifier() && !plan.checksUniqueIdentifiers())
+			return true;
+		if (windowMetadataCache == null)
+			return null;
+		if (plan.checksStringIdentifier()) {
+			String title = windowMetadataCache.getTitle(handle);
+			if (title == null || !plan.matchesStringIdentifier(title))
+				return null;
 		}
-		return null;
+		if (plan.checksUniqueIdentifiers()) {
+			String url = windowMetadataCache.getCurrentUrl(handle);
+			if (url == null || !plan.matchesUniqueIdentifiers(url))
+				return null;
+		}
+		return true;
 	}
 
-	private Function<WebDriver, String> getWindowHandleByTitleAndURLs(final WebDriver from,
-			List<String> urlsRegExps, String titleRegExp) {
+	private String getTitle(WebDriver from, String handle) {
+		String title = from.getTitle();
+		if (windowMetadataCache != null)
+			windowMetadataCache.putTitle(handle, title);
+		return title;
+	}
 
-		return getHandle(titleRegExp).andThen(input -> 
-		{
-			if (input == null)
-				return null;
-			
-			String currentUrl = null;
-			try {
-				from.switchTo().window(input);
-				currentUrl = from.getCurrentUrl();
-			} catch (TimeoutException e) {
+	private String getCurrentUrl(WebDriver from, String handle) {
+		String url = from.getCurrentUrl();
+		if (windowMetadataCache != null)
+			windowMetadataCache.putCurrentUrl(handle, url);
+		return url;
+	}
+
+	/**
+	 * Conditions are checked in order of their cost: index,
+	 * known titles/URLs, then the current window (there is no need to switch to
+	 * it), then titles and URLs of other windows. Title and URL are 
+	 * received once per window. The first matching window stops the checking.
+	 * Windows from the given set of known handles are not checked at all
+	 */
+	private String getMatchingHandle(WebDriver from,
+			HandleMatchingPlan plan, Set<String> knownHandles) {
+		List<String> handles = new ArrayList<String>(from.getWindowHandles());
+		Integer index = plan.getIndex();
+		List<String> candidates = handles;
+		if (index != null) {
+			if (handles.size() - 1 < index)
 				return null;
+			candidates = new ArrayList<String>();
+			candidates.add(handles.get(index));
+		}
+		else
+			candidates = new ArrayList<String>(handles);
+		candidates.removeAll(knownHandles);
+		if (plan.getHandle() != null)
+			candidates.retainAll(Collections.singleton(plan.getHandle()));
+
+		List<String> unknown = new ArrayList<String>();
+		for (String handle : candidates) {
+			Boolean matches = matchesByKnownValues(handle, plan);
+			if (matches == null) {
+				unknown.add(handle);
+				continue;
 			}
+			if (matches)
+				return handle;
+		}
+		if (unknown.size() == 0)
+			return null;
 
-			return getHandleWhichMatchesToURLs(input, urlsRegExps,
-					currentUrl);
-			
-		});		
-	}
+		String current = null;
+		try {
+			current = from.getWindowHandle();
+		} catch (WebDriverException e) { // the current window may be closed
+			current = null;
+		}
+		if (current != null && unknown.remove(current))
+			unknown.add(0, current);
 
-	private Function<WebDriver, String> getWindowHandleByIndexAndTitle(final WebDriver from,
-			int windowIndex, String titleRegExp) {
-		
-		return getHandle(windowIndex).andThen(input -> {
-			if (input == null)
-				return null;
-			
-			String winTitle = null;
+		for (String handle : unknown) {
 			try {
-				from.switchTo().window(input);
-				winTitle = from.getTitle();
+				if (!handle.equals(current))
+					from.switchTo().window(handle);
+				if (plan.checksStringIdentifier()
+						&& !plan.matchesStringIdentifier(getTitle(from, handle)))
+					continue;
+				if (plan.checksUniqueIdentifiers()
+						&& !plan.matchesUniqueIdentifiers(getCurrentUrl(from, handle)))
+					continue;
 			} catch (TimeoutException e) {
 				return null;
 			}
-
-			return getHandleWhichMatchesToTitles(input, titleRegExp,
-					winTitle);			
-		});		
+			return handle;
+		}
+		return null;
 	}
 
-	private Function<WebDriver, String> getWindowHandleByAllConditions(final WebDriver from,
-			int windowIndex, List<String> urlsRegExps, String titleRegExp) {
-		 return getWindowHandleByIndexAndTitle(from,
-				windowIndex, titleRegExp).andThen(input -> {
-					if (input == null)
-						return null;
-					
-					String currentUrl = null;
-					try {
-						from.switchTo().window(input);
-						currentUrl = from.getCurrentUrl();
-					} catch (TimeoutException e) {
-						return null;
-					}
-					return getHandleWhichMatchesToURLs(input, urlsRegExps,
-							currentUrl);					
-				});
-
+	/**
+	 * returns handle of a browser window that we have been waiting for
+	 * specified time. The window is found by the given
+	 * {@link HandleMatchingPlan}
+	 *
+	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(com.github.arachnidium.core.fluenthandle.HandleMatchingPlan)
+	 */
+	@Override
+	public IFunctionalHandleCondition getHandle(HandleMatchingPlan plan) {
+		return from -> getMatchingHandle(from, plan, 
+				Collections.<String>emptySet());
 	}
 
-	private Function<WebDriver, String> getWindowHandleByIndexAndURLs(final WebDriver from,
-			int windowIndex, List<String> urlsRegExps) {		
-		return getHandle(windowIndex).andThen(input -> {
-			if (input == null)
-				return null;
-			
-			String currentUrl = null;
-			try {
-				from.switchTo().window(input);
-				currentUrl = from.getCurrentUrl();
-			} catch (TimeoutException e) {
-				return null;
-			}
-			return getHandleWhichMatchesToURLs(input, urlsRegExps,
-					currentUrl);			
-		});
+	/**
+	 * returns handle of a new browser window that we have been waiting for
+	 * specified time. Only windows which are not in the given set
+	 * are checked by the given {@link HandleMatchingPlan}
+	 *
+	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getNewHandle(com.github.arachnidium.core.fluenthandle.HandleMatchingPlan, java.util.Set)
+	 */
+	@Override
+	public IFunctionalHandleCondition getNewHandle(HandleMatchingPlan plan,
+			Set<String> knownHandles) {
+		return from -> getMatchingHandle(from, plan, knownHandles);
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
 	 * specified time. The window is defined by index
-	 * 
+	 *
 	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(int)
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(final int index) {
-		return  from -> {
-			Set<String> handles = from.getWindowHandles();
-			if (handles.size() - 1 >= index) {
-				from.switchTo().window(handles.toArray()[index].toString());
-				return new ArrayList<String>(handles).get(index);
-			} else
-				return null;
-		};
+		return getHandle(new HandleMatchingPlan(index, null, null));
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
-	 * specified time. 
-	 * 
+	 * specified time.
+	 *
 	 * The browser window should have defined title. We can
 	 * specify part of a title as a regular expression
-	 * 
+	 *
 	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(java.lang.String)
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(String titleRegExp) {
-		return from -> {
-			String resultHandle = null;
-			Set<String> handles = from.getWindowHandles();
-			for (String handle : handles) {
-				String winTitle = null;
-				try {
-					from.switchTo().window(handle);
-					winTitle = from.getTitle();
-				} catch (TimeoutException e) {
-					return null;
-				}
-				resultHandle = getHandleWhichMatchesToTitles(handle, titleRegExp,
-						winTitle);
-				if (resultHandle == null) {
-					continue;
-				}
-				return resultHandle;
-			}
-			return resultHandle;
-		};
+		return getHandle(new HandleMatchingPlan(null, titleRegExp, null));
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
-	 * specified time. 
-	 * 
+	 * specified time.
+	 *
 	 * Browser window should have page that is loaded at
 	 * specified URLs. Each URL can be defined partially as regular expression
-	 * 
+	 *
 	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(java.util.List)
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(List<String> urlsRegExps) {
-		return  from -> {
-			String resultHandle = null;
-			Set<String> handles = from.getWindowHandles();
-			for (String handle : handles) {
-				String currentUrl = null;
-				try {
-					from.switchTo().window(handle);
-					currentUrl = from.getCurrentUrl();
-				} catch (TimeoutException e) {
-					return null;
-				}
-
-				resultHandle = getHandleWhichMatchesToURLs(handle, urlsRegExps,
-						currentUrl);
-				if (resultHandle == null) {
-					continue;
-				}
-				return resultHandle;
-			}
-			return resultHandle;
-		};
+		return getHandle(new HandleMatchingPlan(null, null, urlsRegExps));
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
-	 * specified time. 
-	 * 
+	 * specified time.
+	 *
 	 * The browser window should have defined title. We can
 	 * specify part of a title as a regular expression.
-	 * 
+	 *
 	 * Browser window should have page that is loaded at
 	 * specified URLs. Each URL can be defined partially as regular expression.
 	 *
@@ -221,59 +215,57 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 	@Override
 	public IFunctionalHandleCondition getHandle(String titleRegExp,
 			List<String> urlsRegExps) {
-		return from -> getWindowHandleByTitleAndURLs(from, urlsRegExps,
-				titleRegExp).apply(from);
+		return getHandle(new HandleMatchingPlan(null, titleRegExp, urlsRegExps));
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
 	 * specified time. The window is defined by index.
-	 * 
+	 *
 	 * The browser window should have defined title. We can
 	 * specify part of a title as a regular expression.
-	 * 
+	 *
 	 * Browser window should have page that is loaded at
 	 * specified URLs. Each URL can be defined partially as regular expression
-	 * 
+	 *
 	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(int,
 	 *      java.lang.String, java.util.List)
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(int index, String titleRegExp,
 			List<String> urlsRegExps) {
-		return from -> getWindowHandleByAllConditions(from, index, urlsRegExps,
-				titleRegExp).apply(from);
+		return getHandle(new HandleMatchingPlan(index, titleRegExp, urlsRegExps));
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
 	 * specified time. The window is defined by index.
-	 * 
+	 *
 	 * The browser window should have defined title. We can specify part of a
 	 * title as a regular expression.
-	 * 
+	 *
 	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(int,
 	 *      java.lang.String)
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(int index, String titleRegExp) {
-		return from -> getWindowHandleByIndexAndTitle(from, index, titleRegExp).apply(from);
+		return getHandle(new HandleMatchingPlan(index, titleRegExp, null));
 	}
 
 	/**
 	 * returns handle of a browser window that we have been waiting for
 	 * specified time. The window is defined by index.
-	 * 
+	 *
 	 * Browser window should have page that is loaded at
 	 * specified URLs. Each URL can be defined partially as regular expression.
-	 * 
+	 *
 	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(int,
 	 *      java.util.List)
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(int index,
 			List<String> urlsRegExps) {
-		return from -> getWindowHandleByIndexAndURLs(from, index, urlsRegExps).apply(from);
+		return getHandle(new HandleMatchingPlan(index, null, urlsRegExps));
 	}
 
 }
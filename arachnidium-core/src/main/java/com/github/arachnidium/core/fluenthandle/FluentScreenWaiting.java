@@ -3,90 +3,85 @@ package com.github.arachnidium.core.fluenthandle;
 import io.appium.java_client.android.AndroidDriver;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.openqa.selenium.ContextAware;
 import org.openqa.selenium.WebDriver;
 
 public class FluentScreenWaiting implements IFluentHandleWaiting {
 	
-	private static String getContextWhichMatchesToContextExpression(
-			String contextRegExp, String currentContext) {
-		Pattern p = Pattern.compile(contextRegExp);
-		Matcher m = p.matcher(currentContext);
-		if (m.find()) {
-			return currentContext;
-		} else
-			return null;
-	}
-
-	private static String getContextWhichMatchesToActivities(String context,
-			List<String> activitiesRegExps, String currentActivity) {
-		for (String activity : activitiesRegExps) {
-			Pattern p = Pattern.compile(activity);
-			Matcher m = p.matcher(currentActivity);
-	
-			if (m.find()) {
-				return context;
+	/**
+	 * Conditions are checked in order of their cost: index,
+	 * context name, activity. Context names are matched locally. 
+	 * The current activity is received once per poll because it doesn't
+	 * depend on the context. Contexts from the given set of known 
+	 * handles are not checked at all
+	 */
+	private static String getMatchingContext(WebDriver from,
+			HandleMatchingPlan plan, Set<String> knownHandles) {
+		ContextAware contextAware = ((ContextAware) from);
+		List<String> handles = new ArrayList<String>(contextAware.getContextHandles());
+		Integer index = plan.getIndex();
+		List<String> candidates = handles;
+		if (index != null) {
+			if (handles.size() - 1 < index)
+				return null;
+			candidates = new ArrayList<String>();
+			candidates.add(handles.get(index));
+		}
+		else
+			candidates = new ArrayList<String>(handles);
+		candidates.removeAll(knownHandles);
+		if (plan.getHandle() != null)
+			candidates.retainAll(Collections.singleton(plan.getHandle()));
+		
+		String currentActivity = null;
+		for (String handle : candidates) {
+			if (!plan.matchesStringIdentifier(handle)) {
+				continue;
+			}
+			
+			if (plan.checksUniqueIdentifiers()) {
+				if (currentActivity == null)
+					currentActivity = ((AndroidDriver<?>) from).currentActivity();
+				if (!plan.matchesUniqueIdentifiers(currentActivity))
+					return null; //the activity is the same for all contexts
 			}
+			
+			if (index != null || plan.checksUniqueIdentifiers())
+				contextAware.context(handle);
+			return handle;
 		}
 		return null;
 	}
 	
-	private Function<WebDriver, String> getContextByIndexAndContextExpression(
-			int contextIndex, String contextRegExp) {
-		return getHandle(contextIndex).andThen(input -> {
-			if (input == null)
-				return null;
-			
-			return getContextWhichMatchesToContextExpression(contextRegExp,
-					input);
-		});
+	/**
+	 * returns context that we have been waiting for
+	 * specified time. The context is found by the given 
+	 * {@link HandleMatchingPlan}
+	 * 
+	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getHandle(com.github.arachnidium.core.fluenthandle.HandleMatchingPlan)
+	 */
+	@Override
+	public IFunctionalHandleCondition getHandle(HandleMatchingPlan plan) {
+		return from -> getMatchingContext(from, plan, 
+				Collections.<String>emptySet());
 	}
 	
-	private Function<WebDriver, String> getContextByIndexAndActivities(final WebDriver from,
-			int contextIndex, List<String> activitiesRegExps) {
-		return getHandle(contextIndex).andThen(input -> {
-			if (input == null)
-				return null;
-			
-			ContextAware contextAware = ((ContextAware) from);
-			String currentActivity = ((AndroidDriver<?>) contextAware.context(input)).currentActivity();
-			
-			return getContextWhichMatchesToActivities(input, activitiesRegExps, currentActivity);
-		});
-	}	
-
-	private Function<WebDriver, String> getContextByContextExpressionAndActivities(final WebDriver from,
-			List<String> activitiesRegExps, String contextRegExp) {
-		return getHandle(contextRegExp).andThen(input -> {
-			if (input == null)
-				return null;
-			
-			ContextAware contextAware = ((ContextAware) from);
-			String currentActivity = ((AndroidDriver<?>) contextAware.context(input)).currentActivity();
-
-			return getContextWhichMatchesToActivities(input, activitiesRegExps,
-					currentActivity);
-		});
-	}	
-	
-	private Function<WebDriver, String> getContextByAllConditions(final WebDriver from,
-			int contextIndex, List<String> activitiesRegExps, String contextRegExp) {
-		return getContextByIndexAndContextExpression(contextIndex, contextRegExp).andThen(input -> {
-			if (input == null)
-				return null;
-			ContextAware contextAware = ((ContextAware) from);
-			String currentActivity = ((AndroidDriver<?>) contextAware.context(input)).currentActivity();
-			return getContextWhichMatchesToActivities(input, activitiesRegExps,
-					currentActivity);
-		});
-		
-	}	
+	/**
+	 * returns new context that we have been waiting for
+	 * specified time. Only contexts which are not in the given set 
+	 * are checked by the given {@link HandleMatchingPlan}
+	 * 
+	 * @see com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting#getNewHandle(com.github.arachnidium.core.fluenthandle.HandleMatchingPlan, java.util.Set)
+	 */
+	@Override
+	public IFunctionalHandleCondition getNewHandle(HandleMatchingPlan plan,
+			Set<String> knownHandles) {
+		return from -> getMatchingContext(from, plan, knownHandles);
+	}
 	
 	/**
 	 * returns context that we have been waiting for
@@ -97,14 +92,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(int index) {
-		return from -> {
-			Set<String> handles = ((ContextAware) from).getContextHandles();
-			if (handles.size() - 1 >= index) {
-				((ContextAware) from).context(handles.toArray()[index].toString());
-				return new ArrayList<String>(handles).get(index);
-			} else
-				return null;
-		};
+		return getHandle(new HandleMatchingPlan(index, null, null));
 	}
 
 	
@@ -119,20 +107,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	 */	
 	@Override
 	public IFunctionalHandleCondition getHandle(String contextRegExp) {
-		return from -> {
-			String resultHandle = null;
-			ContextAware contextAware = ((ContextAware) from);
-			Set<String> handles = contextAware.getContextHandles();
-			for (String handle : handles) {
-				resultHandle = getContextWhichMatchesToContextExpression(contextRegExp, 
-						handle);
-				if (resultHandle == null) {
-					continue;
-				}
-				return resultHandle;
-			}
-			return resultHandle;
-		};
+		return getHandle(new HandleMatchingPlan(null, contextRegExp, null));
 	}
 
 	/**
@@ -147,7 +122,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	 */
 	@Override
 	public IFunctionalHandleCondition getHandle(int index, String contextRegExp) {
-		return from -> getContextByIndexAndContextExpression(index, contextRegExp).apply(from);
+		return getHandle(new HandleMatchingPlan(index, contextRegExp, null));
 	}
 
 	/**
@@ -161,22 +136,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	 */	
 	@Override
 	public IFunctionalHandleCondition getHandle(List<String> activitiesRegExps) {
-		return from -> {
-			String resultHandle = null;
-			ContextAware contextAware = ((ContextAware) from);
-			Set<String> handles = contextAware.getContextHandles();
-			for (String handle : handles) {
-				String currentActivity = ((AndroidDriver<?>) contextAware.context(handle)).currentActivity();
-
-				resultHandle = getContextWhichMatchesToActivities(handle, activitiesRegExps,
-						currentActivity);
-				if (resultHandle == null) {
-					continue;
-				}
-				return resultHandle;
-			}
-			return resultHandle;
-		};
+		return getHandle(new HandleMatchingPlan(null, null, activitiesRegExps));
 	}
 
 	/**
@@ -192,7 +152,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	@Override
 	public IFunctionalHandleCondition getHandle(int index,
 			List<String> activitiesRegExps) {
-		return from -> getContextByIndexAndActivities(from, index, activitiesRegExps).apply(from);
+		return getHandle(new HandleMatchingPlan(index, null, activitiesRegExps));
 	}
 
 	/**
@@ -211,7 +171,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	@Override
 	public IFunctionalHandleCondition getHandle(String contextRegExp,
 			List<String> activitiesRegExps) {
-		return from -> getContextByContextExpressionAndActivities(from, activitiesRegExps, contextRegExp).apply(from);
+		return getHandle(new HandleMatchingPlan(null, contextRegExp, activitiesRegExps));
 	}
 
 	/**
@@ -230,7 +190,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	@Override
 	public IFunctionalHandleCondition getHandle(int index, String contextRegExp,
 			List<String> activitiesRegExps) {
-		return from -> getContextByAllConditions(from, index, activitiesRegExps, contextRegExp).apply(from);
+		return getHandle(new HandleMatchingPlan(index, contextRegExp, activitiesRegExps));
 	}
 
 }
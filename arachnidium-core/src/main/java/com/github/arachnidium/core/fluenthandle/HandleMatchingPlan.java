@@ -0,0 +1,130 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * This is the immutable compiled form of {@link HowToGetHandle}.
+ * Regular expressions are compiled only once, so
+ * {@link IFluentHandleWaiting} implementors can check
+ * windows/contexts while polling without any preparation
+ *
+ * @see HowToGetHandle#compile()
+ */
+public final class HandleMatchingPlan {
+	private final Integer index;
+	private final String stringIdentifier;
+	private final Pattern stringIdentifierPattern;
+	private final List<String> uniqueIdentifiers;
+	private final List<Pattern> uniqueIdentifierPatterns;
+	private final String handle;
+
+	/**
+	 * @return the plan without any condition. It is useful 
+	 * when any new window/context is expected
+	 * 
+	 * @see IFluentHandleWaiting#getNewHandle(HandleMatchingPlan, java.util.Set)
+	 */
+	public static HandleMatchingPlan anyHandle() {
+		return new HandleMatchingPlan(null, null, null);
+	}
+
+	HandleMatchingPlan(Integer index, String stringIdentifier,
+			List<String> uniqueIdentifiers) {
+		this(index, stringIdentifier, uniqueIdentifiers, null);
+	}
+
+	HandleMatchingPlan(Integer index, String stringIdentifier,
+			List<String> uniqueIdentifiers, String handle) {
+		this.index = index;
+		this.handle = handle;
+		this.stringIdentifier = stringIdentifier;
+		if (stringIdentifier != null)
+			stringIdentifierPattern = Pattern.compile(stringIdentifier);
+		else
+			stringIdentifierPattern = null;
+
+		if (uniqueIdentifiers != null) {
+			this.uniqueIdentifiers = Collections
+					.unmodifiableList(new ArrayList<String>(uniqueIdentifiers));
+			List<Pattern> patterns = new ArrayList<Pattern>();
+			uniqueIdentifiers.forEach((identifier) -> patterns.add(Pattern
+					.compile(identifier)));
+			uniqueIdentifierPatterns = Collections.unmodifiableList(patterns);
+		} else {
+			this.uniqueIdentifiers = null;
+			uniqueIdentifierPatterns = null;
+		}
+	}
+
+	/**
+	 * @return expected index or <code>null</code>
+	 */
+	public Integer getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the exact window handle/context name or <code>null</code>.
+	 * Other windows/contexts are not checked if it is defined
+	 */
+	public String getHandle() {
+		return handle;
+	}
+
+	/**
+	 * @return expected title/context name or <code>null</code>
+	 */
+	public String getStringIdentifier() {
+		return stringIdentifier;
+	}
+
+	/**
+	 * @return expected URLs/activities or <code>null</code>
+	 */
+	public List<String> getUniqueIdentifiers() {
+		return uniqueIdentifiers;
+	}
+
+	/**
+	 * @return <code>true</code> if title/context name should be checked
+	 */
+	public boolean checksStringIdentifier() {
+		return stringIdentifierPattern != null;
+	}
+
+	/**
+	 * @return <code>true</code> if URLs/activities should be checked
+	 */
+	public boolean checksUniqueIdentifiers() {
+		return uniqueIdentifierPatterns != null;
+	}
+
+	/**
+	 * @param value is the actual title/context name
+	 * @return <code>true</code> if there is no expected title/context name
+	 * or the given value matches it
+	 */
+	public boolean matchesStringIdentifier(String value) {
+		if (stringIdentifierPattern == null)
+			return true;
+		return stringIdentifierPattern.matcher(value).find();
+	}
+
+	/**
+	 * @param value is the actual URL/activity
+	 * @return <code>true</code> if there are no expected URLs/activities
+	 * or the given value matches one of them
+	 */
+	public boolean matchesUniqueIdentifiers(String value) {
+		if (uniqueIdentifierPatterns == null)
+			return true;
+		for (Pattern p : uniqueIdentifierPatterns) {
+			if (p.matcher(value).find())
+				return true;
+		}
+		return false;
+	}
+}
@@ -11,6 +11,7 @@ public abstract class HowToGetHandle implements IHowToGetHandle {
 	protected Integer index = null;;
 	protected String stringIdentifier = null;
 	protected List<String> uniqueIdentifiers = null;
+	protected String handle = null;
 
 	/**
 	 * @see com.github.arachnidium.core.fluenthandle.IHowToGetHandle#setExpected(int)
@@ -37,50 +38,33 @@ public abstract class HowToGetHandle implements IHowToGetHandle {
 	}
 
 	/**
-	 * @see com.github.arachnidium.core.fluenthandle.IHowToGetHandle#getExpectedCondition(com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting)
+	 * @see com.github.arachnidium.core.fluenthandle.IHowToGetHandle#setExpectedHandle(java.lang.String)
 	 */
 	@Override
-	public IFunctionalHandleCondition getExpectedCondition(
-			IFluentHandleWaiting fluentHandleWaiting) {
+	public void setExpectedHandle(String handle) {
+		this.handle = handle;
+	}
 
+	/**
+	 * @return the immutable {@link HandleMatchingPlan} where
+	 * all given regular expressions are compiled
+	 */
+	public HandleMatchingPlan compile() {
 		if (index == null && stringIdentifier == null
-				&& uniqueIdentifiers == null) {
+				&& uniqueIdentifiers == null && handle == null) {
 			throw new IllegalArgumentException(
 					"There is no defined condition to get a new handle");
 		}
+		return new HandleMatchingPlan(index, stringIdentifier,
+				uniqueIdentifiers, handle);
+	}
 
-		if (index != null && stringIdentifier == null
-				&& uniqueIdentifiers == null) {
-			return fluentHandleWaiting.getHandle(index);
-		}
-
-		if (index == null && stringIdentifier != null
-				&& uniqueIdentifiers == null) {
-			return fluentHandleWaiting.getHandle(stringIdentifier);
-		}
-
-		if (index == null && stringIdentifier == null
-				&& uniqueIdentifiers != null) {
-			return fluentHandleWaiting.getHandle(uniqueIdentifiers);
-		}
-
-		if (index != null && stringIdentifier != null
-				&& uniqueIdentifiers == null) {
-			return fluentHandleWaiting.getHandle(index, stringIdentifier);
-		}
-
-		if (index != null && stringIdentifier == null
-				&& uniqueIdentifiers != null) {
-			return fluentHandleWaiting.getHandle(index, uniqueIdentifiers);
-		}
-
-		if (index == null && stringIdentifier != null
-				&& uniqueIdentifiers != null) {
-			return fluentHandleWaiting.getHandle(stringIdentifier,
-					uniqueIdentifiers);
-		}
-
-		return fluentHandleWaiting.getHandle(index, stringIdentifier,
-				uniqueIdentifiers);
+	/**
+	 * @see com.github.arachnidium.core.fluenthandle.IHowToGetHandle#getExpectedCondition(com.github.arachnidium.core.fluenthandle.IFluentHandleWaiting)
+	 */
+	@Override
+	public IFunctionalHandleCondition getExpectedCondition(
+			IFluentHandleWaiting fluentHandleWaiting) {
+		return fluentHandleWaiting.getHandle(compile());
 	}
 }
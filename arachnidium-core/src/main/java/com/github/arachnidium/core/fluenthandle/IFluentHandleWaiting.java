@@ -1,6 +1,7 @@
 package com.github.arachnidium.core.fluenthandle;
 
 import java.util.List;
+import java.util.Set;
 /**
  * This interface is implemented by classes which execute 
  * fluent waiting for window handles or contexts
@@ -69,4 +70,53 @@ public interface IFluentHandleWaiting {
 	 * @return String handle value
 	 */
 	IFunctionalHandleCondition getHandle(int index, String identifier, List<String> uniqueIdentifiers);	
+	
+	/**
+	 * It gets some handle by the compiled {@link HandleMatchingPlan}.
+	 * Implementors are supposed to override it.
+	 * 
+	 * @param plan is the compiled set of conditions
+	 * @return String handle value
+	 */
+	default IFunctionalHandleCondition getHandle(HandleMatchingPlan plan){
+		Integer index = plan.getIndex();
+		String identifier = plan.getStringIdentifier();
+		List<String> uniqueIdentifiers = plan.getUniqueIdentifiers();
+		
+		if (index != null && identifier == null && uniqueIdentifiers == null)
+			return getHandle(index);
+		if (index == null && identifier != null && uniqueIdentifiers == null)
+			return getHandle(identifier);
+		if (index == null && identifier == null && uniqueIdentifiers != null)
+			return getHandle(uniqueIdentifiers);
+		if (index != null && identifier != null && uniqueIdentifiers == null)
+			return getHandle(index, identifier);
+		if (index != null && identifier == null && uniqueIdentifiers != null)
+			return getHandle(index, uniqueIdentifiers);
+		if (index == null && identifier != null && uniqueIdentifiers != null)
+			return getHandle(identifier, uniqueIdentifiers);
+		return getHandle(index, identifier, uniqueIdentifiers);
+	}
+	
+	/**
+	 * It gets some new handle by the compiled {@link HandleMatchingPlan}.
+	 * Handles which were present before are ignored.
+	 * Implementors are supposed to override it. By default 
+	 * the handle found by {@link #getHandle(HandleMatchingPlan)} is 
+	 * accepted only if it is not known.
+	 * 
+	 * @param plan is the compiled set of conditions
+	 * @param knownHandles is the set of handles which were present before
+	 * @return String handle value
+	 */
+	default IFunctionalHandleCondition getNewHandle(HandleMatchingPlan plan, 
+			Set<String> knownHandles){
+		IFunctionalHandleCondition condition = getHandle(plan);
+		return from -> {
+			String handle = condition.apply(from);
+			if (handle == null || knownHandles.contains(handle))
+				return null;
+			return handle;
+		};
+	}
 }
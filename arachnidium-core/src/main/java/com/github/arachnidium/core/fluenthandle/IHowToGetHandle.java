@@ -24,6 +24,18 @@ public interface IHowToGetHandle {
 	 */	
 	public void setExpected(List<String> uniqueIdentifiers);
 	
+	/**
+	 * @param It is the exact window handle or context name.
+	 * Only this window/context is checked by other conditions.
+	 * Implementors which support pinning of the handle are 
+	 * supposed to override it
+	 * @throws UnsupportedOperationException by default
+	 */
+	public default void setExpectedHandle(String handle){
+		throw new UnsupportedOperationException(getClass().getName() + 
+				" can't be pinned to the handle " + handle);
+	}
+	
 	/**
 	 * @param fluentHandleWaiting where given parameter are set up
 	 * @return {@link ExpectedCondition} which waits for some window/context
@@ -0,0 +1,9 @@
+package com.github.arachnidium.core.interfaces;
+
+/**
+ * For entities which can say whether they are still present
+ * without any waiting
+ */
+public interface IHasLiveness {
+	public boolean isAlive();
+}
@@ -0,0 +1,46 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores the flag which turns on descriptions (tag, id, name, text) of 
+ * elements which are clicked, changed or submitted. The description is
+ * added to the log message.
+ *
+ * Specification:
+ *
+ * <p><br/>
+ *...<br/>
+ *"elementDescription":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"enabled":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "elementDescription")
+public class ElementDescription extends AbstractConfigurationAccessHelper {
+
+	protected ElementDescription(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return {@link Boolean} value of the flag "enabled".
+	 * It is <code>true</code> by default
+	 */
+	@Setting(setting = "enabled")
+	public Boolean getEnabled() {
+		Boolean value = getSetting();
+		if (value == null)
+			return true;
+		return value;
+	}
+}
@@ -20,6 +20,14 @@ import org.openqa.selenium.WebDriver.Window;
  *&nbsp;&nbsp;"handleWaitingTimeOut":{<br/>
  *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
  *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"handleLivenessMaxAge":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds), optional"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"windowMetadataMaxAge":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds), optional"<br/>     
  *&nbsp;&nbsp;}<br/>
  *}<br/>
  *...<br/>
@@ -42,5 +50,24 @@ public class HandleWaitingTimeOut extends AbstractConfigurationAccessHelper {
 	public Long getHandleWaitingTimeOut(){
 		return getSetting();
 	}
+	
+	/**
+	 * @return {@link Long} value (milliseconds) which defines how long
+	 * the known list of present windows/contexts is trusted. <code>null</code> means
+	 * that the max polling interval is used (see {@link Polling#getMaxInterval()})
+	 */
+	@Setting(setting = "handleLivenessMaxAge")
+	public Long getHandleLivenessMaxAge(){
+		return getSetting();
+	}
+	
+	/**
+	 * @return {@link Long} value (milliseconds) which defines how long
+	 * known titles and URLs of browser windows are trusted
+	 */
+	@Setting(setting = "windowMetadataMaxAge")
+	public Long getWindowMetadataMaxAge(){
+		return getSetting();
+	}
 
 }
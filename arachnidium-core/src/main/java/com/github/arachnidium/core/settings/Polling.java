@@ -0,0 +1,113 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.core.components.common.Awaiting;
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores the polling policy of {@link Awaiting}. The first
+ * poll is fast, then the interval grows until it reaches the max value.
+ *
+ * Specification:
+ *
+ * <p><br/>
+ *...<br/>
+ *"polling":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"initialInterval":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds)"<br/>
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"maxInterval":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds)"<br/>
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"backoffMultiplier":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"FLOAT",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some float value"<br/>
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"firstCheckIsFree":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"maxChecks":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"INT",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some int value"<br/>
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "polling")
+public class Polling extends AbstractConfigurationAccessHelper {
+	private static final long DEFAULT_INITIAL_INTERVAL = 50; //milliseconds
+	private static final long DEFAULT_MAX_INTERVAL = 500; //milliseconds
+	private static final float DEFAULT_BACKOFF_MULTIPLIER = 2;
+
+	protected Polling(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return {@link Long} value (milliseconds) of the first sleeping
+	 * between checks
+	 */
+	@Setting(setting = "initialInterval")
+	public Long getInitialInterval() {
+		Long value = getSetting();
+		if (value == null)
+			return DEFAULT_INITIAL_INTERVAL;
+		return value;
+	}
+
+	/**
+	 * @return {@link Long} value (milliseconds). Sleeping between
+	 * checks is never longer than this value
+	 */
+	@Setting(setting = "maxInterval")
+	public Long getMaxInterval() {
+		Long value = getSetting();
+		if (value == null)
+			return DEFAULT_MAX_INTERVAL;
+		return value;
+	}
+
+	/**
+	 * @return {@link Float} value. Each next sleeping is
+	 * longer than previous in this count of times
+	 */
+	@Setting(setting = "backoffMultiplier")
+	public Float getBackoffMultiplier() {
+		Float value = getSetting();
+		if (value == null)
+			return DEFAULT_BACKOFF_MULTIPLIER;
+		return value;
+	}
+
+	/**
+	 * @return {@link Boolean} value of the flag "firstCheckIsFree".
+	 * If it is <code>true</code> (by default) the first check is performed
+	 * immediately and it is not counted by "maxChecks". Otherwise the first check
+	 * is performed after the initial interval.
+	 */
+	@Setting(setting = "firstCheckIsFree")
+	public Boolean getFirstCheckIsFree() {
+		Boolean value = getSetting();
+		if (value == null)
+			return true;
+		return value;
+	}
+
+	/**
+	 * @return {@link Integer} value. It is the max count of checks
+	 * (remote calls) per one waiting. <code>null</code> means that there is
+	 * no limit
+	 */
+	@Setting(setting = "maxChecks")
+	public Integer getMaxChecks() {
+		return getSetting();
+	}
+}
@@ -47,7 +47,11 @@ import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
  * &nbsp;&nbsp;&nbsp;&nbsp;"value":"URL of the remote server like http://127.0.0.1:4444/wd/hub"<br/>
  * &nbsp;&nbsp;}<code>//this parameter is applied to {@link RemoteWebDriver}, {@link AndroidDriver} 
  * and {@link IOSDriver}</code><br/>
- * &nbsp;&nbsp;<code>//by other is ignored</code><br/>
+ * &nbsp;&nbsp;<code>//by other is ignored</code>,<br/>
+ * &nbsp;&nbsp;"aspectJListening":{<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ * &nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>
+ * &nbsp;&nbsp;}<br/>
  * }<br/>
  * ...<br/>
  * </p>
@@ -95,5 +99,20 @@ public class WebDriverSettings extends AbstractConfigurationAccessHelper {
 		else
 			return DEFAULT_SUPPORTED_DRIVER;
 	}
+	
+	/**
+	 * @return {@link Boolean} value of the flag "aspectJListening".
+	 * If it is <code>true</code> then {@link WebDriver} is listened by AspectJ
+	 * advices. Otherwise (by default) the compiled listening is used.
+	 * 
+	 * @see com.github.arachnidium.core.bean.AspectWebDriver
+	 */
+	@Setting(setting = "aspectJListening")
+	public Boolean getAspectJListening() {
+		Boolean value = getSetting();
+		if (value == null)
+			return false;
+		return value;
+	}
 
 }
@@ -0,0 +1,99 @@
+package com.github.arachnidium.core;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.testng.annotations.Test;
+
+public class ByNumberedTest {
+
+	/**
+	 * Returns the given results one by one and counts searches
+	 */
+	private static class StubBy extends By {
+		private final List<List<WebElement>> results;
+		private int searches;
+
+		@SafeVarargs
+		private StubBy(List<WebElement>... results) {
+			this.results = new ArrayList<List<WebElement>>(Arrays.asList(results));
+		}
+
+		@Override
+		public List<WebElement> findElements(SearchContext context) {
+			searches++;
+			if (results.size() > 1)
+				return results.remove(0);
+			return results.get(0);
+		}
+	}
+
+	private static final SearchContext context = new SearchContext() {
+		@Override
+		public List<WebElement> findElements(By by) {
+			return by.findElements(this);
+		}
+
+		@Override
+		public WebElement findElement(By by) {
+			return by.findElement(this);
+		}
+	};
+
+	private static List<WebElement> getElements(int count) {
+		List<WebElement> result = new ArrayList<WebElement>();
+		for (int i = 0; i < count; i++)
+			result.add(new RemoteWebElement());
+		return result;
+	}
+
+	@Test
+	public void siblingsShareTheResult() {
+		List<WebElement> elements = getElements(2);
+		StubBy by = new StubBy(elements);
+		ByNumbered.SharedResult sharedResult = new ByNumbered.SharedResult(by);
+		assertSame(new ByNumbered(by, 0, sharedResult).findElement(context),
+				elements.get(0));
+		assertSame(new ByNumbered(by, 1, sharedResult).findElement(context),
+				elements.get(1));
+		assertEquals(by.searches, 1);
+	}
+
+	@Test
+	public void emptyAndShortResultsAreNotReused() {
+		List<WebElement> elements = getElements(2);
+		StubBy by = new StubBy(getElements(0), getElements(1), elements);
+		ByNumbered.SharedResult sharedResult = new ByNumbered.SharedResult(by);
+		ByNumbered second = new ByNumbered(by, 1, sharedResult);
+		assertEquals(second.findElements(context).size(), 0);
+		assertEquals(second.findElements(context).size(), 0);
+		assertSame(second.findElement(context), elements.get(1));
+		assertEquals(by.searches, 3);
+	}
+
+	@Test
+	public void resultIsNotReusedAfterNavigation() {
+		FocusTracker focusTracker = new FocusTracker();
+		StubBy by = new StubBy(getElements(1));
+		ByNumbered.SharedResult sharedResult = new ByNumbered.SharedResult(by,
+				focusTracker);
+		ByNumbered first = new ByNumbered(by, 0, sharedResult);
+		first.findElement(context);
+		first.findElement(context);
+		assertEquals(by.searches, 1);
+		focusTracker.navigationIsPerformed();
+		first.findElement(context);
+		assertEquals(by.searches, 2);
+		focusTracker.invalidate();
+		first.findElement(context);
+		assertEquals(by.searches, 3);
+	}
+}
@@ -0,0 +1,61 @@
+package com.github.arachnidium.core.bean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class LazyListenableListTest {
+
+	private final List<Object> converted = new ArrayList<Object>();
+	private final Function<Object, Object> toListenable = original -> {
+		converted.add(original);
+		return "listenable " + original;
+	};
+
+	@BeforeMethod
+	public void clearConverted() {
+		converted.clear();
+	}
+
+	@Test
+	public void itemIsConvertedWhenItIsReceivedFirstTime() {
+		LazyListenableList list = new LazyListenableList(Arrays.asList("a",
+				"b", "c"), toListenable);
+		assertEquals(list.size(), 3);
+		assertEquals(converted.size(), 0);
+
+		assertEquals(list.get(1), "listenable b");
+		assertEquals(list.get(1), "listenable b");
+		assertEquals(converted, Arrays.asList("b"));
+
+		assertEquals(new ArrayList<Object>(list), Arrays.asList(
+				"listenable a", "listenable b", "listenable c"));
+		assertEquals(converted, Arrays.asList("b", "a", "c"));
+	}
+
+	@Test
+	public void nullIsNotConverted() {
+		LazyListenableList list = new LazyListenableList(Arrays.asList("a",
+				null), toListenable);
+		assertNull(list.get(1));
+		assertEquals(converted.size(), 0);
+	}
+
+	@Test
+	public void listCanBeModified() {
+		LazyListenableList list = new LazyListenableList(Arrays.asList("a",
+				"b"), toListenable);
+		assertEquals(list.set(0, "x"), "listenable a");
+		list.add("y");
+		assertEquals(list.remove(1), "listenable b");
+		assertEquals(list, Arrays.asList("x", "y"));
+		assertEquals(converted, Arrays.asList("a", "b"));
+	}
+}
@@ -0,0 +1,59 @@
+package com.github.arachnidium.core.bean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ListenableElementCacheTest {
+
+	private final AtomicInteger creations = new AtomicInteger();
+	private final Function<Object, Object> creation = component -> {
+		creations.incrementAndGet();
+		return new Object();
+	};
+
+	@BeforeMethod
+	public void resetCreations() {
+		creations.set(0);
+	}
+
+	private static RemoteWebElement getElement(String id) {
+		RemoteWebElement element = new RemoteWebElement();
+		element.setId(id);
+		return element;
+	}
+
+	@Test
+	public void elementsWithTheSameIdShareTheWrapper() {
+		ListenableElementCache cache = new ListenableElementCache();
+		Object wrapper = cache.getListenable(getElement("1"), creation);
+		assertSame(cache.getListenable(getElement("1"), creation), wrapper);
+		assertNotSame(cache.getListenable(getElement("2"), creation), wrapper);
+		assertEquals(creations.get(), 2);
+	}
+
+	@Test
+	public void elementsWithoutIdAreNotCached() {
+		ListenableElementCache cache = new ListenableElementCache();
+		RemoteWebElement element = new RemoteWebElement();
+		assertNotSame(cache.getListenable(element, creation),
+				cache.getListenable(element, creation));
+		assertEquals(creations.get(), 2);
+	}
+
+	@Test
+	public void otherObjectsAreNotCached() {
+		ListenableElementCache cache = new ListenableElementCache();
+		Object component = new Object();
+		assertNotSame(cache.getListenable(component, creation),
+				cache.getListenable(component, creation));
+		assertEquals(creations.get(), 2);
+	}
+}
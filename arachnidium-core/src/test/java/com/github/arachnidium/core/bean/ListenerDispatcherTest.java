@@ -0,0 +1,57 @@
+package com.github.arachnidium.core.bean;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.eventlisteners.Reporting;
+
+public class ListenerDispatcherTest {
+
+	private static final int EVENT_COUNT = 1500; // more than the queue holds
+
+	public static interface ITestListener {
+		void event(int number);
+	}
+
+	@Reporting
+	public static class ReportingListener implements ITestListener {
+		private static final List<Integer> received = new ArrayList<Integer>();
+
+		@Override
+		public void event(int number) {
+			if (number == 0) {
+				try {
+					Thread.sleep(200); // the queue gets full
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			synchronized (received) {
+				received.add(number);
+			}
+		}
+	}
+
+	@Test
+	public void reportingEventsAreDeliveredInOrderAndFlushed() {
+		ListenerDispatcher dispatcher = new ListenerDispatcher(
+				ITestListener.class);
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			int number = i;
+			dispatcher.fire(ITestListener.class,
+					listener -> listener.event(number));
+		}
+		ListenerDispatcher.flush();
+
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < EVENT_COUNT; i++)
+			expected.add(i);
+		synchronized (ReportingListener.received) {
+			assertEquals(ReportingListener.received, expected);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.github.arachnidium.core.bean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver.Navigation;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.bean.ListeningInterceptor.MethodPlan;
+
+public class ListeningInterceptorTest {
+
+	private static class StubNavigation implements Navigation {
+		@Override
+		public void back() {
+		}
+
+		@Override
+		public void forward() {
+		}
+
+		@Override
+		public void to(String url) {
+		}
+
+		@Override
+		public void to(URL url) {
+		}
+
+		@Override
+		public void refresh() {
+		}
+	}
+
+	private static MethodPlan getPlan(Class<?> targetClass, String name,
+			Class<?>... parameterTypes) throws NoSuchMethodException {
+		return ListeningInterceptor.compile(targetClass,
+				targetClass.getMethod(name, parameterTypes));
+	}
+
+	private static RemoteWebElement getElement(String id) {
+		RemoteWebElement element = new RemoteWebElement();
+		element.setId(id);
+		return element;
+	}
+
+	@Test
+	public void methodsWhichAreNotDeclaredByListenedTypesAreNotListened()
+			throws NoSuchMethodException {
+		assertSame(getPlan(RemoteWebElement.class, "getId"),
+				ListeningInterceptor.PASS_THROUGH);
+		assertSame(getPlan(RemoteWebElement.class, "toString"),
+				ListeningInterceptor.PASS_THROUGH);
+		assertSame(getPlan(RemoteWebDriver.class, "getSessionId"),
+				ListeningInterceptor.PASS_THROUGH);
+	}
+
+	@Test
+	public void hooksAreFoundByTheMethod() throws NoSuchMethodException {
+		MethodPlan click = getPlan(RemoteWebElement.class, "click");
+		assertEquals(click.before.length, 1); // beforeClickOn
+		// afterClickOn, afterPossibleWindowChanging
+		assertEquals(click.after.length, 2);
+
+		MethodPlan quit = getPlan(RemoteWebDriver.class, "quit");
+		assertEquals(quit.before.length, 1); // beforeQuit
+		assertEquals(quit.after.length, 0);
+
+		MethodPlan to = getPlan(StubNavigation.class, "to", String.class);
+		assertEquals(to.before.length, 1); // beforeNavigateTo
+		// afterNavigateTo, afterNavigation, afterPossibleWindowChanging
+		assertEquals(to.after.length, 3);
+
+		MethodPlan refresh = getPlan(StubNavigation.class, "refresh");
+		assertEquals(refresh.before.length, 0);
+		// afterNavigation, afterPossibleWindowChanging
+		assertEquals(refresh.after.length, 2);
+	}
+
+	@Test
+	public void listenedMethodWithoutHooksIsNotPassedThrough()
+			throws NoSuchMethodException {
+		// exceptions of it are still reported
+		MethodPlan getText = getPlan(RemoteWebElement.class, "getText");
+		assertNotSame(getText, ListeningInterceptor.PASS_THROUGH);
+		assertEquals(getText.before.length, 0);
+		assertEquals(getText.after.length, 0);
+	}
+
+	@Test
+	public void listenableElementIsEqualToItself() {
+		RemoteWebElement element = getElement("1");
+		RemoteWebElement listenable = ListeningInterceptor.getListenable(
+				element, null);
+		assertNotSame(listenable, element);
+		assertTrue(listenable.equals(listenable));
+		assertEquals(listenable.hashCode(), element.hashCode());
+	}
+
+	@Test
+	public void listenableElementsOfTheSameElementAreEqual() {
+		RemoteWebElement first = ListeningInterceptor.getListenable(
+				getElement("1"), null);
+		RemoteWebElement second = ListeningInterceptor.getListenable(
+				getElement("1"), null);
+		RemoteWebElement other = ListeningInterceptor.getListenable(
+				getElement("2"), null);
+		assertTrue(first.equals(second));
+		assertEquals(first.hashCode(), second.hashCode());
+		assertFalse(first.equals(other));
+	}
+
+	@Test
+	public void listenableElementCanBeFoundInList() {
+		RemoteWebElement listenable = ListeningInterceptor.getListenable(
+				getElement("1"), null);
+		List<WebElement> elements = new ArrayList<WebElement>();
+		elements.add(ListeningInterceptor.getListenable(getElement("2"), null));
+		elements.add(listenable);
+		assertTrue(elements.contains(listenable));
+		assertEquals(elements.indexOf(listenable), 1);
+	}
+}
@@ -0,0 +1,62 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.HowToGetPage;
+
+public class HandleMatchingPlanTest {
+
+	@Test
+	public void anyHandleMatchesEverything() {
+		HandleMatchingPlan plan = HandleMatchingPlan.anyHandle();
+		assertFalse(plan.checksStringIdentifier());
+		assertFalse(plan.checksUniqueIdentifiers());
+		assertTrue(plan.matchesStringIdentifier("any title"));
+		assertTrue(plan.matchesUniqueIdentifiers("http://any.url"));
+		assertNull(plan.getHandle());
+	}
+
+	@Test
+	public void regularExpressionsAreMatchedPartially() {
+		HandleMatchingPlan plan = new HandleMatchingPlan(null, "Goo.le",
+				Arrays.asList("bbc\\.com", "google\\.com"));
+		assertTrue(plan.matchesStringIdentifier("Google Search"));
+		assertFalse(plan.matchesStringIdentifier("Bing"));
+		assertTrue(plan.matchesUniqueIdentifiers("https://www.google.com/"));
+		assertFalse(plan.matchesUniqueIdentifiers("https://www.bing.com/"));
+	}
+
+	@Test
+	public void givenIdentifiersCantBeModified() {
+		HandleMatchingPlan plan = new HandleMatchingPlan(1, null,
+				Arrays.asList("url"));
+		try {
+			plan.getUniqueIdentifiers().add("another");
+		} catch (UnsupportedOperationException e) {
+			return;
+		}
+		throw new AssertionError("The list of identifiers has been modified");
+	}
+
+	@Test
+	public void pinnedHandleIsCompiled() {
+		HowToGetPage howToGet = new HowToGetPage();
+		howToGet.setExpectedHandle("CDwindow-1");
+		HandleMatchingPlan plan = howToGet.compile();
+		assertEquals(plan.getHandle(), "CDwindow-1");
+		assertNull(plan.getIndex());
+		assertFalse(plan.checksStringIdentifier());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void strategyWithoutConditionsIsNotCompiled() {
+		new HowToGetPage().compile();
+	}
+}
@@ -0,0 +1,107 @@
+package com.github.arachnidium.util.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.cglib.core.ReflectUtils;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+
+/**
+ * Resolves methods only once per (class, method) pair. 
+ * {@link MethodInterceptor} implementors use it to delegate
+ * intercepted invocations without the lookup on each call.
+ */
+public final class DispatchTable {
+	private final static Object[] NO_ARGS = new Object[] {};
+
+	/**
+	 * The resolved invocation. It behaves like
+	 * {@link Method#invoke(Object, Object...)}: exceptions thrown by
+	 * the invoked method are wrapped by {@link InvocationTargetException}
+	 */
+	private static interface Invoker {
+		Object invoke(Object target, Object[] args) throws Throwable;
+	}
+
+	private static class MethodMap<T> extends ClassValue<Map<Method, T>> {
+		@Override
+		protected Map<Method, T> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<Method, T>();
+		}
+	}
+
+	private final static MethodMap<MethodProxy> methodProxies = new MethodMap<MethodProxy>();
+	private final static MethodMap<Invoker> invokers = new MethodMap<Invoker>();
+
+	private DispatchTable() {
+		super();
+	}
+
+	/**
+	 * @param proxyClass is a class created by CGLIB
+	 * @param m a method to be converted to {@link MethodProxy}
+	 * @return an instance of {@link MethodProxy}. It is found once per
+	 * class and method
+	 */
+	public static MethodProxy getMethodProxy(Class<?> proxyClass, Method m) {
+		return methodProxies.get(proxyClass).computeIfAbsent(m,
+				method -> MethodProxy.find(proxyClass,
+						ReflectUtils.getSignature(method)));
+	}
+
+	private static Method getRelevantMethod(Class<?> targetClass, Method m) {
+		try {
+			return targetClass.getMethod(m.getName(), m.getParameterTypes());
+		} catch (NoSuchMethodException e) {
+			// it may be not public
+			return m;
+		}
+	}
+
+	private static Invoker createInvoker(Class<?> targetClass, Method m) {
+		Method method = getRelevantMethod(targetClass, m);
+		int parameterCount = method.getParameterCount();
+		try {
+			method.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method)
+					.asType(MethodType.genericMethodType(parameterCount + 1))
+					.asSpreader(Object[].class, parameterCount);
+			return (target, args) -> {
+				try {
+					return (Object) handle.invokeExact(target, args);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			};
+		} catch (IllegalAccessException | RuntimeException e) {
+			// the reflective invocation is used when
+			// the method is not accessible
+			return (target, args) -> method.invoke(target, args);
+		}
+	}
+
+	/**
+	 * Invokes the method which is relevant to the given one on the target
+	 * object. The method is resolved once per target class.
+	 * 
+	 * @param target is an object which method should be invoked
+	 * @param m is an intercepted method. The method of the target class with 
+	 * the same name and parameter types is invoked
+	 * @param args are parameters of the invocation
+	 * @return the result of the invocation
+	 * @throws Throwable the same as {@link Method#invoke(Object, Object...)}
+	 */
+	public static Object invoke(Object target, Method m, Object[] args)
+			throws Throwable {
+		Class<?> targetClass = target.getClass();
+		Invoker invoker = invokers.get(targetClass).computeIfAbsent(m,
+				method -> createInvoker(targetClass, method));
+		return invoker.invoke(target, args == null ? NO_ARGS : args);
+	}
+}
@@ -18,10 +18,14 @@
 package com.github.arachnidium.util.proxy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.MethodInterceptor;
 
 import org.objenesis.Objenesis;
@@ -35,6 +39,33 @@ import org.objenesis.ObjenesisStd;
  *
  */
 public abstract class EnhancedProxyFactory {
+	/**
+	 * Proxy classes which are created by 
+	 * {@link #getProxyBypassConstructor(Class, List)}. The key is
+	 * the superclass + callback types. Callbacks are set per instance, so 
+	 * there is only one proxy class for each superclass/callback count
+	 */
+	private final static Map<List<Class<?>>, Class<?>> proxyClasses = 
+			new ConcurrentHashMap<List<Class<?>>, Class<?>>();
+	/**
+	 * Instantiators are cached by this object
+	 */
+	private final static Objenesis objenesis = new ObjenesisStd(true);
+	
+	private static Class<?> getProxyClass(Class<?> clazz, 
+			Class<?>[] callbackTypes) {
+		List<Class<?>> key = new ArrayList<Class<?>>();
+		key.add(clazz);
+		key.addAll(Arrays.asList(callbackTypes));
+		return proxyClasses.computeIfAbsent(key, k -> {
+			Enhancer enhancer = new Enhancer();
+			enhancer.setUseCache(false);
+			enhancer.setCallbackTypes(callbackTypes);
+			enhancer.setSuperclass(clazz);
+			enhancer.setClassLoader(clazz.getClassLoader());
+			return enhancer.createClass();
+		});
+	}
 	
 	/**
 	 * @param clazz Instance of defined class has to be got from
@@ -108,21 +139,16 @@ public abstract class EnhancedProxyFactory {
 	public static <T extends Object> T getProxyBypassConstructor(
 			Class<T> clazz,
 			List<MethodInterceptor> interceptors) {
-		Enhancer enhancer = new Enhancer();
-		
-		final List<Class<?>> callbackTypes = new ArrayList<Class<?>>();
-		interceptors.forEach(interceptor -> {
-			callbackTypes.add(interceptor.getClass());
-		});
-		enhancer.setUseCache(false);
-		enhancer.setCallbackTypes(callbackTypes.toArray(new Class<?>[]{}));
-		enhancer.setSuperclass(clazz);
-		Class<?> proxiedClass=enhancer.createClass();
-		Enhancer.registerCallbacks(proxiedClass, interceptors.toArray(new Callback[]{}));
-		enhancer.setClassLoader(clazz.getClassLoader());
+		// all interceptors are MethodInterceptor implementors. So the 
+		// generated class is the same for any of them
+		Class<?>[] callbackTypes = new Class<?>[interceptors.size()];
+		Arrays.fill(callbackTypes, MethodInterceptor.class);
+		Class<?> proxiedClass = getProxyClass(clazz, callbackTypes);
 		
-		Objenesis objenesis = new ObjenesisStd();
 		Object proxy = objenesis.newInstance(proxiedClass);
+		// callbacks are bound to the instance. There is no
+		// class-level or thread-local registration here
+		((Factory) proxy).setCallbacks(interceptors.toArray(new Callback[]{}));
 		return (T) proxy;
 		
 	}
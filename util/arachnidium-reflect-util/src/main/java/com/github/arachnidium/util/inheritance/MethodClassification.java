@@ -0,0 +1,78 @@
+package com.github.arachnidium.util.inheritance;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classifies methods by classes/interfaces which declare them.
+ * The result is the bitmask. The n-th bit is set when the method is
+ * overridden from the n-th given class. Bitmasks are calculated once per
+ * {@link Method}, so it is cheap to check methods which are intercepted
+ * many times.<br/>
+ * <br/>
+ * <code>MethodClassification classification = new MethodClassification(Object.class, WrapsDriver.class);</code><br/>
+ * <code>...</code><br/>
+ * <code>if (classification.isOverriddenFromAny(method, classification.getFlag(Object.class)))</code><br/>
+ * <code>...</code><br/>
+ *
+ * @see MethodInheritanceUtil#isOverriddenFrom(Method, Class)
+ */
+public final class MethodClassification {
+	private final List<Class<?>> declaringClasses;
+	private final Map<Method, Integer> flags = new ConcurrentHashMap<Method, Integer>();
+
+	/**
+	 * @param declaringClasses are classes/interfaces which 
+	 * are checked. There should not be more than 32 classes
+	 */
+	public MethodClassification(Class<?>... declaringClasses) {
+		if (declaringClasses.length > Integer.SIZE)
+			throw new IllegalArgumentException(
+					"There should not be more than " + Integer.SIZE
+							+ " classes");
+		this.declaringClasses = Arrays.asList(declaringClasses.clone());
+	}
+
+	/**
+	 * @param declaringClass is one of classes which were given to
+	 * the constructor
+	 * @return the bit which is relevant to the given class
+	 */
+	public int getFlag(Class<?> declaringClass) {
+		int index = declaringClasses.indexOf(declaringClass);
+		if (index < 0)
+			throw new IllegalArgumentException(declaringClass.getName()
+					+ " is not classified");
+		return 1 << index;
+	}
+
+	/**
+	 * @param m is a method which should be checked
+	 * @return the bitmask of classes which declare the method
+	 */
+	public int getFlags(Method m) {
+		return flags.computeIfAbsent(m, method -> {
+			int result = 0;
+			for (int i = 0; i < declaringClasses.size(); i++) {
+				if (MethodInheritanceUtil.isOverriddenFrom(method,
+						declaringClasses.get(i)))
+					result |= 1 << i;
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * @param m is a method which should be checked
+	 * @param flags is a bitmask. It can be combined from values 
+	 * returned by {@link #getFlag(Class)}
+	 * @return <code>true</code> if the method is declared by 
+	 * any of classes which are relevant to the given bitmask
+	 */
+	public boolean isOverriddenFromAny(Method m, int flags) {
+		return (getFlags(m) & flags) != 0;
+	}
+}
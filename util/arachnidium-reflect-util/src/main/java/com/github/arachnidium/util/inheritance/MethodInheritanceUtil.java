@@ -1,14 +1,24 @@
 package com.github.arachnidium.util.inheritance;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ClassUtils.Interfaces;
 import org.apache.commons.lang3.reflect.MethodUtils;
 
 public final class MethodInheritanceUtil {
+	/**
+	 * Classes and interfaces which declare the method. The override
+	 * hierarchy of the method is never changed, so it is calculated once
+	 */
+	private final static Map<Method, Set<Class<?>>> declaringClasses = 
+			new ConcurrentHashMap<Method, Set<Class<?>>>();
 
 	private MethodInheritanceUtil() {
 		super();
@@ -26,8 +36,14 @@ public final class MethodInheritanceUtil {
 		return classes;
 	}
 	
+	private static Set<Class<?>> getDeclaringClasses(Method m) {
+		return declaringClasses.computeIfAbsent(m, method -> Collections
+				.unmodifiableSet(new HashSet<Class<?>>(getDeclaringClasseses(
+						method, Interfaces.INCLUDE))));
+	}
+	
 	public static boolean isOverriddenFrom(Method m, Class<?> declaringClass){
-		return getDeclaringClasseses(m, Interfaces.INCLUDE).contains(declaringClass);
+		return getDeclaringClasses(m).contains(declaringClass);
 	}
 	
 	public static boolean isOverriddenFromAny(Method m, List<Class<?>> declaringClasses){
@@ -5,6 +5,8 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class facilitates the annotation reading
@@ -13,6 +15,24 @@ public final class AnnotationUtil {
 
 	private static final Class<?>[] ANNOTATION_METHOD_PARAM_CLASSES = new Class<?>[] {};
 	private static final Object[] ANNOTATION_METHOD_PARAM_VALUES = new Object[] {};
+	
+	// annotation parameters (methods) by annotation classes
+	private static final ClassValue<Map<String, Method>> annotationMethods = 
+			new ClassValue<Map<String, Method>>() {
+		@Override
+		protected Map<String, Method> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<String, Method>();
+		}
+	};
+	
+	// annotations which are found in the class hierarchy
+	private static final ClassValue<Map<Class<? extends Annotation>, Annotation[]>> inheritedAnnotations = 
+			new ClassValue<Map<Class<? extends Annotation>, Annotation[]>>() {
+		@Override
+		protected Map<Class<? extends Annotation>, Annotation[]> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<Class<? extends Annotation>, Annotation[]>();
+		}
+	};
 
 	private AnnotationUtil(){
 		super();
@@ -29,8 +49,12 @@ public final class AnnotationUtil {
 	@SuppressWarnings("unchecked")
 	public static <T extends Object> T getValue(Annotation a, String methodName) {
 		try {
-			Method m = a.getClass().getMethod(methodName,
-					ANNOTATION_METHOD_PARAM_CLASSES);
+			Method m = annotationMethods.get(a.getClass()).get(methodName);
+			if (m == null) {
+				m = a.getClass().getMethod(methodName,
+						ANNOTATION_METHOD_PARAM_CLASSES);
+				annotationMethods.get(a.getClass()).put(methodName, m);
+			}
 			return (T) m.invoke(a, ANNOTATION_METHOD_PARAM_VALUES);
 		} catch (IllegalAccessException | IllegalArgumentException
 				| InvocationTargetException | NoSuchMethodException
@@ -61,23 +85,26 @@ public final class AnnotationUtil {
 	 * @param target is a {@link Class} which is supposed to be annotated
 	 * @param fromSuperClasses is the flag that means that superclasses can be annotated and 
 	 * result should be returned using the next annotated superclasses if the target class is not 
-	 * annotated.
+	 * annotated. The result of this search is found once per class.
 	 *  
 	 * @return an array of required {@link Annotation} subclass instances 
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T extends Annotation> T[] getAnnotations(Class<? extends Annotation> requiredAnnotation, Class<?> target, 
 			boolean fromSuperClasses){
-		T[] result = getAnnotations(requiredAnnotation, target);
 		if (!fromSuperClasses){
-			return result;
+			return getAnnotations(requiredAnnotation, target);
 		}
 		
-		Class<?> superC = target.getSuperclass();
-		while (result.length == 0 && superC != null){
-			result = getAnnotations(requiredAnnotation, superC);
-			superC = superC.getSuperclass();			
-		}
-		return result;
+		return (T[]) inheritedAnnotations.get(target).computeIfAbsent(requiredAnnotation, annotationClass -> {
+			Annotation[] result = getAnnotations(annotationClass, target);
+			Class<?> superC = target.getSuperclass();
+			while (result.length == 0 && superC != null){
+				result = getAnnotations(annotationClass, superC);
+				superC = superC.getSuperclass();			
+			}
+			return result;
+		}).clone();
 	}
 	
 }